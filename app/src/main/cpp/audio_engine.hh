@@ -0,0 +1,153 @@
+/*
+Pull based audio engine
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <atomic>
+#include <chrono>
+#include <thread>
+#include <algorithm>
+#include <sys/resource.h>
+#include "ring_buffer.hh"
+#include "metrics.hh"
+#include "encoder.hh"
+
+// float samples with full scale at one
+struct Source {
+	virtual int pull(float *, int) = 0;
+
+	virtual bool running() const = 0;
+
+	virtual ~Source() = default;
+};
+
+struct Sink {
+	// gets the output ready, nothing is pulled from the source until play
+	virtual bool start(Source *, int, int) = 0;
+
+	virtual bool play() = 0;
+
+	virtual void stop() = 0;
+
+	// only a sink pulling at the pace of a device can run short of samples
+	virtual bool realtime() const = 0;
+
+	virtual ~Sink() = default;
+};
+
+class AudioEngine : public Source {
+	static const int max_channels = 2;
+	static const int max_extended_length = (1280 * 48000 / 8000) * 9 / 8;
+	static const int prefill_symbols = 5;
+	RingBuffer<float, 1 << 17> ring;
+	float symbol[max_channels * max_extended_length];
+	std::thread render_thread;
+	std::atomic<bool> rendering{false};
+	std::atomic<bool> stopping{false};
+	std::atomic<int> underruns{0};
+	std::atomic<long long> first_sample{0};
+	Interface *encoder;
+	Sink *sink;
+	int priority;
+	bool realtime = true;
+	int channels = 1;
+	int channel_select = 0;
+	int symbol_samples = 0;
+	int symbol_micros = 0;
+
+	bool render() {
+		bool okay = encoder->produce(symbol, channel_select);
+		if (okay)
+			ring.write(symbol, symbol_samples);
+		return okay;
+	}
+
+	void render_loop() {
+		setpriority(PRIO_PROCESS, 0, priority);
+		// the sink only starts pulling once a few symbols are in the ring
+		bool more = true;
+		for (int i = 0; more && i < prefill_symbols && !stopping.load(std::memory_order_relaxed); ++i)
+			more = render();
+		if (!stopping.load(std::memory_order_relaxed) && !sink->play()) {
+			ring.reset();
+			more = false;
+		}
+		while (more && !stopping.load(std::memory_order_relaxed)) {
+			if (ring.writable() < symbol_samples) {
+				std::this_thread::sleep_for(std::chrono::microseconds(symbol_micros / 4));
+				continue;
+			}
+			if (!render())
+				break;
+		}
+		rendering.store(false, std::memory_order_release);
+	}
+
+public:
+	AudioEngine(Interface *encoder, Sink *sink, int priority = -16) : encoder(encoder), sink(sink), priority(priority) {}
+
+	bool start(int channel_select) {
+		stop();
+		this->channel_select = channel_select;
+		channels = channel_select ? 2 : 1;
+		int rate = encoder->rate();
+		int extended_length = ((1280 * rate) / 8000) * 9 / 8;
+		symbol_samples = channels * extended_length;
+		symbol_micros = (1000000LL * extended_length) / rate;
+		realtime = sink->realtime();
+		ring.reset();
+		underruns.store(0, std::memory_order_relaxed);
+		first_sample.store(0, std::memory_order_relaxed);
+		stopping.store(false, std::memory_order_relaxed);
+		if (!sink->start(this, rate, channels)) {
+			sink->stop();
+			return false;
+		}
+		// rendering the first symbols can take a while, so the caller does not wait for them
+		rendering.store(true, std::memory_order_release);
+		render_thread = std::thread(&AudioEngine::render_loop, this);
+		return true;
+	}
+
+	void stop() {
+		stopping.store(true, std::memory_order_relaxed);
+		if (render_thread.joinable())
+			render_thread.join();
+		sink->stop();
+		rendering.store(false, std::memory_order_relaxed);
+	}
+
+	// called from the sink, must never block
+	int pull(float *samples, int frames) final {
+		bool more = rendering.load(std::memory_order_acquire);
+		int count = ring.read(samples, channels * frames);
+		if (count && !first_sample.load(std::memory_order_relaxed))
+			first_sample.store(monotonic_nanos(), std::memory_order_relaxed);
+		if (count < channels * frames) {
+			std::fill(samples + count, samples + channels * frames, 0);
+			if (more && realtime)
+				underruns.fetch_add(1, std::memory_order_relaxed);
+		}
+		return count / channels;
+	}
+
+	bool running() const final {
+		return rendering.load(std::memory_order_acquire) || ring.readable();
+	}
+
+	int underrun_count() const {
+		return underruns.load(std::memory_order_relaxed);
+	}
+
+	// monotonic time the sink got the first samples since start, zero until then
+	long long first_sample_nanos() const {
+		return first_sample.load(std::memory_order_relaxed);
+	}
+
+	~AudioEngine() override {
+		stop();
+	}
+};
@@ -0,0 +1,187 @@
+/*
+Microbenchmarks of the encoder core, its output is checked by the encoder test
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#include <chrono>
+#include <memory>
+#include <string>
+#include <vector>
+#include <type_traits>
+#include <cstdio>
+#include <cstdlib>
+#include <unistd.h>
+#define assert(expr)
+#include "encoder.hh"
+
+typedef DSP::Complex<float> cmplx;
+
+static double min_seconds = 0.1;
+static const char *filter = "";
+// keeps the compiler from dropping work whose result is not used otherwise
+static volatile uint32_t sink;
+
+template<typename FUNC>
+static double measure(FUNC func) {
+	long ops = 0;
+	auto start = std::chrono::steady_clock::now();
+	double seconds = 0;
+	do {
+		ops += func();
+		seconds = std::chrono::duration<double>(std::chrono::steady_clock::now() - start).count();
+	} while (seconds < min_seconds);
+	return 1e9 * seconds / ops;
+}
+
+static void report(const std::string &name, double nanos, const char *unit = "symbols") {
+	printf("%-20s %12.1f ns/op %10.1f %s/s\n", name.c_str(), nanos, 1e9 / nanos, unit);
+}
+
+static bool selected(const std::string &name) {
+	return name.find(filter) != std::string::npos;
+}
+
+static void fill(cmplx *values, int count, uint32_t seed) {
+	CODE::Xorshift32 random(seed);
+	for (int i = 0; i < count; ++i)
+		values[i] = cmplx(int(random() % 2001) - 1000, int(random() % 2001) - 1000) / 1000.f;
+}
+
+static void fill(uint8_t *payload, int count) {
+	for (int i = 0; i < count; ++i)
+		payload[i] = i * 77 + 3;
+}
+
+// one op is one symbol of a complete transmission
+template<int RATE, typename SAMPLE = int16_t>
+static void bench_encoder(int mode) {
+	std::string kind = std::is_same<SAMPLE, float>::value ? "float/" : "encoder/";
+	std::string name = kind + std::to_string(RATE) + "/" + std::to_string(mode);
+	if (!selected(name))
+		return;
+	std::unique_ptr<Encoder<RATE>> encoder(new Encoder<RATE>());
+	uint8_t payload[5380];
+	fill(payload, sizeof(payload));
+	std::vector<SAMPLE> audio(((1280 * RATE) / 8000) * 9 / 8);
+	double nanos = measure([&]() {
+		encoder->configure(payload, reinterpret_cast<const int8_t *>("ANONYMOUS"), mode, 1700, 2, true);
+		int symbols = 0;
+		while (encoder->produce(audio.data(), 0))
+			++symbols;
+		return symbols;
+	});
+	report(name, nanos);
+}
+
+// one op is one codeword
+static void bench_polar(int mode) {
+	std::string name = "polar/" + std::to_string(mode);
+	if (!selected(name))
+		return;
+	std::unique_ptr<Polar> polar(new Polar());
+	std::unique_ptr<cmplx[]> cons(new cmplx[32400]);
+	uint8_t mesg[5380];
+	fill(mesg, sizeof(mesg));
+	double nanos = measure([&]() {
+		(*polar)(cons.get(), mesg, mode);
+		return 1;
+	});
+	report(name, nanos, "codewords");
+}
+
+// one op is one symbol
+template<int SIZE, int FACT>
+static void bench_papr() {
+	std::string name = "papr/" + std::to_string(SIZE) + "x" + std::to_string(FACT);
+	if (!selected(name))
+		return;
+	std::unique_ptr<ImprovePAPR<cmplx, SIZE, FACT>> papr(new ImprovePAPR<cmplx, SIZE, FACT>());
+	std::unique_ptr<cmplx[]> input(new cmplx[SIZE]), freq(new cmplx[SIZE]);
+	for (int i = 0; i < SIZE; ++i)
+		input[i] = 0;
+	fill(input.get(), 256, SIZE);
+	fill(input.get() + SIZE - 256, 256, SIZE + FACT);
+	double nanos = measure([&]() {
+		std::copy(input.get(), input.get() + SIZE, freq.get());
+		(*papr)(freq.get());
+		return 1;
+	});
+	report(name, nanos);
+}
+
+// one op is one symbol
+template<int SIZE>
+static void bench_fft() {
+	std::string name = "fft/" + std::to_string(SIZE);
+	if (!selected(name))
+		return;
+	std::unique_ptr<DSP::FastFourierTransform<SIZE, cmplx, 1>> fft(new DSP::FastFourierTransform<SIZE, cmplx, 1>());
+	std::unique_ptr<cmplx[]> input(new cmplx[SIZE]), output(new cmplx[SIZE]);
+	fill(input.get(), SIZE, SIZE);
+	double nanos = measure([&]() {
+		(*fft)(output.get(), input.get());
+		return 1;
+	});
+	report(name, nanos);
+}
+
+// one op is one payload
+static void bench_crc() {
+	std::string name = "crc/5380";
+	if (!selected(name))
+		return;
+	CODE::CRC<uint32_t> crc(0xD419CC15);
+	uint8_t payload[5380];
+	fill(payload, sizeof(payload));
+	double nanos = measure([&]() {
+		crc.reset();
+		for (uint8_t byte: payload)
+			crc(byte);
+		sink = crc();
+		return 1;
+	});
+	report(name, nanos, "payloads");
+}
+
+int main(int argc, char **argv) {
+	for (int opt; (opt = getopt(argc, argv, "f:t:")) != -1;) {
+		switch (opt) {
+			case 'f':
+				filter = optarg;
+				break;
+			case 't':
+				min_seconds = std::atof(optarg);
+				break;
+			default:
+				fprintf(stderr, "usage: %s [-f FILTER] [-t SECONDS]\n", argv[0]);
+				fprintf(stderr, "-f runs only benchmarks containing FILTER\n");
+				return 1;
+		}
+	}
+	for (int mode = 6; mode <= 13; ++mode) {
+		bench_encoder<8000>(mode);
+		bench_encoder<16000>(mode);
+		bench_encoder<32000>(mode);
+		bench_encoder<44100>(mode);
+		bench_encoder<48000>(mode);
+	}
+	for (int mode = 6; mode <= 13; ++mode) {
+		bench_encoder<8000, float>(mode);
+		bench_encoder<48000, float>(mode);
+	}
+	for (int mode = 6; mode <= 13; ++mode)
+		bench_polar(mode);
+	bench_papr<1280, 4>();
+	bench_papr<2560, 4>();
+	bench_papr<5120, 1>();
+	bench_papr<7056, 1>();
+	bench_papr<7680, 1>();
+	bench_fft<1280>();
+	bench_fft<2560>();
+	bench_fft<5120>();
+	bench_fft<7056>();
+	bench_fft<7680>();
+	bench_crc();
+	return 0;
+}
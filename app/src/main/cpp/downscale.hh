@@ -0,0 +1,147 @@
+/*
+Area averaging downscaler in linear light with optional rotation
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <cmath>
+#include <thread>
+#include <vector>
+#include <cstdint>
+#include <algorithm>
+
+class Downscale {
+	static const int linear_bits = 14;
+	static const int linear_size = 1 << linear_bits;
+	float to_linear[256];
+	uint8_t to_srgb[linear_size + 1];
+
+	struct Span {
+		int first, count, offset;
+	};
+
+	struct Axis {
+		std::vector<Span> spans;
+		std::vector<float> weights;
+
+		// exact coverage of the source pixels by each output pixel
+		void setup(int input, int output) {
+			spans.resize(output);
+			weights.clear();
+			double scale = double(input) / output;
+			for (int o = 0; o < output; ++o) {
+				double start = o * scale, end = (o + 1) * scale;
+				int first = std::min(int(start), input - 1);
+				int last = std::min(int(std::ceil(end)), input);
+				spans[o] = {first, last - first, int(weights.size())};
+				for (int i = first; i < last; ++i)
+					weights.push_back(float((std::min(end, i + 1.0) - std::max(start, double(i))) / scale));
+			}
+		}
+	};
+
+	Axis horizontal, vertical;
+
+	static float srgb_decode(float v) {
+		return v <= 0.04045f ? v / 12.92f : std::pow((v + 0.055f) / 1.055f, 2.4f);
+	}
+
+	static float srgb_encode(float v) {
+		return v <= 0.0031308f ? 12.92f * v : 1.055f * std::pow(v, 1.f / 2.4f) - 0.055f;
+	}
+
+	uint8_t encode(float v) const {
+		return to_srgb[std::min(std::max(int(v * linear_size + 0.5f), 0), linear_size)];
+	}
+
+	void filter_row(float *row, const uint8_t *input) const {
+		for (size_t o = 0; o < horizontal.spans.size(); ++o) {
+			const Span &span = horizontal.spans[o];
+			const uint8_t *pixel = input + 4 * span.first;
+			const float *weight = horizontal.weights.data() + span.offset;
+			float r = 0, g = 0, b = 0, a = 0;
+			for (int i = 0; i < span.count; ++i, pixel += 4) {
+				r += weight[i] * to_linear[pixel[0]];
+				g += weight[i] * to_linear[pixel[1]];
+				b += weight[i] * to_linear[pixel[2]];
+				a += weight[i] * pixel[3];
+			}
+			row[4 * o] = r;
+			row[4 * o + 1] = g;
+			row[4 * o + 2] = b;
+			row[4 * o + 3] = a;
+		}
+	}
+
+	void rows(uint8_t *output, int output_stride, const uint8_t *input, int input_stride, int width, int height, int orientation, int begin, int end) const {
+		std::vector<float> row(4 * width), sum(4 * width);
+		for (int y = begin; y < end; ++y) {
+			const Span &span = vertical.spans[y];
+			const float *weight = vertical.weights.data() + span.offset;
+			std::fill(sum.begin(), sum.end(), 0.f);
+			for (int i = 0; i < span.count; ++i) {
+				filter_row(row.data(), input + size_t(span.first + i) * input_stride);
+				for (int j = 0; j < 4 * width; ++j)
+					sum[j] += weight[i] * row[j];
+			}
+			for (int x = 0; x < width; ++x) {
+				int tx = x, ty = y;
+				switch (orientation) {
+					case 90:
+						tx = height - 1 - y;
+						ty = x;
+						break;
+					case 180:
+						tx = width - 1 - x;
+						ty = height - 1 - y;
+						break;
+					case 270:
+						tx = y;
+						ty = width - 1 - x;
+						break;
+				}
+				uint8_t *pixel = output + size_t(ty) * output_stride + 4 * tx;
+				pixel[0] = encode(sum[4 * x]);
+				pixel[1] = encode(sum[4 * x + 1]);
+				pixel[2] = encode(sum[4 * x + 2]);
+				pixel[3] = std::min(std::max(int(sum[4 * x + 3] + 0.5f), 0), 255);
+			}
+		}
+	}
+
+public:
+	Downscale() {
+		for (int i = 0; i < 256; ++i)
+			to_linear[i] = srgb_decode(i / 255.f);
+		for (int i = 0; i <= linear_size; ++i)
+			to_srgb[i] = std::nearbyint(255 * srgb_encode(float(i) / linear_size));
+	}
+
+	// RGBA8888 pixels, strides in bytes, output dimensions after rotating clockwise by orientation degrees
+	bool operator()(uint8_t *output, int output_width, int output_height, int output_stride,
+			const uint8_t *input, int input_width, int input_height, int input_stride,
+			int orientation = 0, int threads = 0) {
+		if (orientation != 0 && orientation != 90 && orientation != 180 && orientation != 270)
+			return false;
+		int width = output_width, height = output_height;
+		if (orientation == 90 || orientation == 270)
+			std::swap(width, height);
+		if (width <= 0 || height <= 0 || input_width <= 0 || input_height <= 0)
+			return false;
+		horizontal.setup(input_width, width);
+		vertical.setup(input_height, height);
+		if (threads <= 0)
+			threads = std::thread::hardware_concurrency();
+		threads = std::max(1, std::min(threads, height));
+		std::vector<std::thread> workers;
+		for (int t = 1; t < threads; ++t)
+			workers.emplace_back(&Downscale::rows, this, output, output_stride, input, input_stride,
+				width, height, orientation, (t * height) / threads, ((t + 1) * height) / threads);
+		rows(output, output_stride, input, input_stride, width, height, orientation, 0, height / threads);
+		for (auto &worker: workers)
+			worker.join();
+		return true;
+	}
+};
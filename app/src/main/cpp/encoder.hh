@@ -7,8 +7,18 @@ Copyright 2021 Ahmet Inan <inan@aicodix.de>
 #pragma once
 
 #include <cmath>
+#include <atomic>
+#include <mutex>
+#include <memory>
+#include <thread>
+#include <vector>
+#include <condition_variable>
 #include <iostream>
 #include <algorithm>
+// the JNI build defines assert away before including this, everything else gets the real one
+#ifndef assert
+#include <cassert>
+#endif
 #include "bose_chaudhuri_hocquenghem_encoder.hh"
 #include "base37_bitmap.hh"
 #include "xorshift.hh"
@@ -18,17 +28,28 @@ Copyright 2021 Ahmet Inan <inan@aicodix.de>
 #include "utils.hh"
 #include "const.hh"
 #include "papr.hh"
+#include "real_part.hh"
+#include "pcm.hh"
 #include "fft.hh"
 #include "mls.hh"
 #include "crc.hh"
+#include "metrics.hh"
 
 struct Interface {
 	virtual void configure(const uint8_t *, const int8_t *, int, int, int, bool) = 0;
 
 	virtual bool produce(int16_t *, int) = 0;
 
+	// full scale is one, but nothing gets clamped
+	virtual bool produce(float *, int) = 0;
+
 	virtual int rate() = 0;
 
+	virtual int symbols() = 0;
+
+	// threads for the payload symbols of the following transmissions, for offline rendering
+	virtual void parallel(int) = 0;
+
 	virtual ~Interface() = default;
 };
 
@@ -49,13 +70,44 @@ class Encoder : public Interface {
 	static const int pre_seq_poly = 0b100101011;
 	static const int pilot_poly = 0b100101011;
 	static const int noise_poly = 0b100101010001;
-	DSP::FastFourierTransform<symbol_length, cmplx, 1> bwd;
+	// the expensive part of a symbol, one for every thread
+	struct Synthesis {
+		DSP::FastFourierTransform<symbol_length, cmplx, 1> bwd;
+		RealPartTransform<symbol_length, cmplx> real_part;
+		ImprovePAPR<cmplx, symbol_length, RATE <= 16000 ? 4 : 1> improve_papr;
+		cmplx freq[symbol_length];
+	};
+	Synthesis synthesis;
+	std::vector<std::unique_ptr<Synthesis>> helpers;
+	// time domain payload symbols from ahead_begin to ahead_end, computed in parallel
+	std::unique_ptr<cmplx[]> ahead;
+	int ahead_length = 0;
+	int ahead_begin = 0;
+	int ahead_end = 0;
+	int thread_count = 1;
+	// one worker for every helper, woken for each window and kept until the thread count changes
+	std::vector<std::thread> workers;
+	std::mutex pool_mutex;
+	std::condition_variable work_ready, work_done;
+	std::atomic<int> next_symbol{0};
+	int window_number = 0;
+	int busy_workers = 0;
+	bool quitting = false;
 	CODE::CRC<uint16_t> crc;
 	CODE::BoseChaudhuriHocquenghemEncoder<255, 71> bch;
 	CODE::MLS noise_seq;
-	ImprovePAPR<cmplx, symbol_length, RATE <= 16000 ? 4 : 1> improve_papr;
 	Polar polar;
-	cmplx temp[extended_length], freq[symbol_length], cons[32400], prev[512], guard[guard_length];
+	cmplx *const freq = synthesis.freq;
+	cmplx temp[symbol_length], cons[32400], prev[512], guard[guard_length];
+	float window[guard_length];
+	// time domain sync and header symbols, reused while their inputs stay the same
+	cmplx sync_symbol[symbol_length], preamble_symbol[symbol_length], pilot_symbol[symbol_length], fancy_symbols[11][symbol_length];
+	bool sync_cached = false, preamble_cached = false, pilot_cached = false, fancy_cached[11] = {false};
+	// only the real part is computed when nothing else is output, the cached symbols follow suit
+	bool real_output = false;
+	// the normalization of the transform, folded into the conversion to PCM
+	const float scale = 32767 / std::sqrt(float(8 * symbol_length));
+	const float float_scale = scale / 32768;
 	uint8_t mesg[data_bits / 8], call[9];
 	uint64_t meta_data;
 	int pay_car_cnt = 0;
@@ -84,6 +136,16 @@ class Encoder : public Interface {
 		return acc;
 	}
 
+	void replay(const cmplx *symbol) {
+		for (int i = 0; i < symbol_length; ++i)
+			temp[i] = symbol[i];
+	}
+
+	void remember(cmplx *symbol) {
+		for (int i = 0; i < symbol_length; ++i)
+			symbol[i] = temp[i];
+	}
+
 	static int nrz(bool bit) {
 		return 1 - 2 * bit;
 	}
@@ -93,6 +155,10 @@ class Encoder : public Interface {
 	}
 
 	void schmidl_cox() {
+		if (sync_cached) {
+			replay(sync_symbol);
+			return;
+		}
 		CODE::MLS seq(cor_seq_poly);
 		float factor = std::sqrt(float(2 * symbol_length) / cor_seq_len);
 		for (int i = 0; i < symbol_length; ++i)
@@ -103,9 +169,15 @@ class Encoder : public Interface {
 		for (int i = 0; i < cor_seq_len; ++i)
 			freq[bin(2 * i + cor_seq_off)] *= freq[bin(2 * (i - 1) + cor_seq_off)];
 		transform(false);
+		remember(sync_symbol);
+		sync_cached = true;
 	}
 
 	void preamble() {
+		if (preamble_cached) {
+			replay(preamble_symbol);
+			return;
+		}
 		uint8_t data[9] = {0}, parity[23] = {0};
 		for (int i = 0; i < 55; ++i)
 			CODE::set_be_bit(data, i, (meta_data >> i) & 1);
@@ -128,9 +200,15 @@ class Encoder : public Interface {
 		for (int i = 0; i < pre_seq_len; ++i)
 			freq[bin(i + pre_seq_off)] *= nrz(seq());
 		transform();
+		remember(preamble_symbol);
+		preamble_cached = true;
 	}
 
 	void fancy_symbol() {
+		if (fancy_cached[fancy_line]) {
+			replay(fancy_symbols[fancy_line]);
+			return;
+		}
 		int active_carriers = 1;
 		for (int j = 0; j < 9; ++j)
 			for (int i = 0; i < 8; ++i)
@@ -144,6 +222,8 @@ class Encoder : public Interface {
 				if (base37_bitmap[call[j] + 37 * fancy_line] & (1 << (7 - i)))
 					freq[bin((8 * j + i) * 3 + fancy_off)] = factor * nrz(seq());
 		transform(false);
+		remember(fancy_symbols[fancy_line]);
+		fancy_cached[fancy_line] = true;
 	}
 
 	void noise_symbol() {
@@ -159,19 +239,87 @@ class Encoder : public Interface {
 	void pilot_block() {
 		CODE::MLS seq(pilot_poly);
 		float factor = std::sqrt(float(symbol_length) / pay_car_cnt);
+		for (int i = 0; i < pay_car_cnt; ++i)
+			prev[i] = factor * nrz(seq());
+		if (pilot_cached) {
+			replay(pilot_symbol);
+			return;
+		}
 		for (int i = 0; i < symbol_length; ++i)
 			freq[i] = 0;
 		for (int i = 0; i < pay_car_cnt; ++i)
-			freq[bin(i + pay_car_off)] = prev[i] = factor * nrz(seq());
+			freq[bin(i + pay_car_off)] = prev[i];
 		transform();
+		remember(pilot_symbol);
+		pilot_cached = true;
 	}
 
 	void payload_symbol() {
-		for (int i = 0; i < symbol_length; ++i)
-			freq[i] = 0;
-		for (int i = 0; i < pay_car_cnt; ++i)
-			freq[bin(i + pay_car_off)] = prev[i] *= cons[pay_car_cnt * symbol_number + i];
-		transform();
+		if (helpers.empty()) {
+			for (int i = 0; i < symbol_length; ++i)
+				freq[i] = 0;
+			for (int i = 0; i < pay_car_cnt; ++i)
+				freq[bin(i + pay_car_off)] = prev[i] *= cons[pay_car_cnt * symbol_number + i];
+			transform();
+			return;
+		}
+		// the differential modulation is the only serial part, so it is done for all symbols up front
+		if (!symbol_number)
+			for (int j = 0; j < symbol_count; ++j)
+				for (int i = 0; i < pay_car_cnt; ++i)
+					cons[pay_car_cnt * j + i] = prev[i] *= cons[pay_car_cnt * j + i];
+		if (symbol_number < ahead_begin || symbol_number >= ahead_end)
+			synthesize_ahead();
+		replay(ahead.get() + symbol_length * (symbol_number - ahead_begin));
+	}
+
+	void synthesize_ahead() {
+		ahead_begin = symbol_number;
+		ahead_end = std::min(symbol_count, symbol_number + ahead_length);
+		next_symbol.store(ahead_begin, std::memory_order_relaxed);
+		std::unique_lock<std::mutex> lock(pool_mutex);
+		busy_workers = workers.size();
+		++window_number;
+		work_ready.notify_all();
+		work_done.wait(lock, [this]() { return !busy_workers; });
+	}
+
+	// all symbols go through the same thread entry, so the result does not depend on the scheduling
+	void synthesize_window(Synthesis *synth) {
+		for (int j = next_symbol++; j < ahead_end; j = next_symbol++) {
+			for (int i = 0; i < symbol_length; ++i)
+				synth->freq[i] = 0;
+			for (int i = 0; i < pay_car_cnt; ++i)
+				synth->freq[bin(i + pay_car_off)] = cons[pay_car_cnt * j + i];
+			transform(synth, ahead.get() + symbol_length * (j - ahead_begin), true);
+		}
+	}
+
+	// started between windows, so a late start does not miss the next one
+	void worker(Synthesis *synth, int done) {
+		std::unique_lock<std::mutex> lock(pool_mutex);
+		for (;; done = window_number) {
+			work_ready.wait(lock, [this, done]() { return quitting || window_number != done; });
+			if (quitting)
+				return;
+			lock.unlock();
+			synthesize_window(synth);
+			lock.lock();
+			if (!--busy_workers)
+				work_done.notify_one();
+		}
+	}
+
+	void stop_workers() {
+		{
+			std::lock_guard<std::mutex> lock(pool_mutex);
+			quitting = true;
+		}
+		work_ready.notify_all();
+		for (auto &thread: workers)
+			thread.join();
+		workers.clear();
+		quitting = false;
 	}
 
 	void silence() {
@@ -180,11 +328,47 @@ class Encoder : public Interface {
 	}
 
 	void transform(bool papr_reduction = true) {
-		if (papr_reduction && RATE <= 16000)
-			improve_papr(freq);
-		bwd(temp, freq);
-		for (int i = 0; i < symbol_length; ++i)
-			temp[i] /= std::sqrt(float(8 * symbol_length));
+		transform(&synthesis, temp, papr_reduction);
+	}
+
+	void transform(Synthesis *synth, cmplx *symbol, bool papr_reduction) {
+		if (papr_reduction && RATE <= 16000) {
+			StageTimer timer(Metrics::PAPR);
+			synth->improve_papr(synth->freq);
+		}
+		StageTimer timer(Metrics::FFT);
+		if (real_output)
+			synth->real_part(symbol, synth->freq);
+		else
+			synth->bwd(symbol, synth->freq);
+	}
+
+	void prepare_threads() {
+		if (thread_count == std::max<int>(1, helpers.size()))
+			return;
+		stop_workers();
+		helpers.clear();
+		ahead = nullptr;
+		if (thread_count < 2)
+			return;
+		// a few symbols per thread, so that waking the threads does not dominate
+		ahead_length = 4 * thread_count;
+		ahead.reset(new(std::nothrow) cmplx[ahead_length * symbol_length]);
+		for (int i = 0; ahead && i < thread_count; ++i) {
+			Synthesis *synth = new(std::nothrow) Synthesis();
+			if (!synth)
+				break;
+			helpers.emplace_back(synth);
+		}
+		thread_count = helpers.size();
+		if (thread_count < 2) {
+			thread_count = 1;
+			helpers.clear();
+			ahead = nullptr;
+			return;
+		}
+		for (auto &helper: helpers)
+			workers.emplace_back(&Encoder::worker, this, helper.get(), window_number);
 	}
 
 	void prepare(int operation_mode) {
@@ -229,38 +413,24 @@ class Encoder : public Interface {
 		pay_car_off = -pay_car_cnt / 2;
 		symbol_number = 0;
 	}
-	void next_sample(int16_t *samples, cmplx signal, int channel, int i) {
-		switch (channel) {
-			case 1:
-				samples[2 * i] = std::clamp<float>(std::nearbyint(32767 * signal.real()), -32768, 32767);
-				samples[2 * i + 1] = 0;
-				break;
-			case 2:
-				samples[2 * i] = 0;
-				samples[2 * i + 1] = std::clamp<float>(std::nearbyint(32767 * signal.real()), -32768, 32767);
-				break;
-			case 4:
-				samples[2 * i] = std::clamp<float>(std::nearbyint(32767 * signal.real()), -32768, 32767);
-				samples[2 * i + 1] = std::clamp<float>(std::nearbyint(32767 * signal.imag()), -32768, 32767);
-				break;
-			default:
-				samples[i] = std::clamp<float>(std::nearbyint(32767 * signal.real()), -32768, 32767);
-		}
-	}
-public:
-	Encoder() : noise_seq(noise_poly), crc(0xA8F4), bch({
-		0b100011101, 0b101110111, 0b111110011, 0b101101001,
-		0b110111101, 0b111100111, 0b100101011, 0b111010111,
-		0b000010011, 0b101100101, 0b110001011, 0b101100011,
-		0b100011011, 0b100111111, 0b110001101, 0b100101101,
-		0b101011111, 0b111111001, 0b111000011, 0b100111001,
-		0b110101001, 0b000011111, 0b110000111, 0b110110001}) {}
 
-	int rate() final {
-		return RATE;
+	template<int CHANNEL, typename SAMPLE>
+	void output(SAMPLE *samples, float factor) {
+		typedef PCM<CHANNEL> pcm;
+		pcm::convert(samples, reinterpret_cast<const float *>(guard), guard_length, factor);
+		pcm::convert(samples + pcm::channels * guard_length, reinterpret_cast<const float *>(temp), symbol_length, factor);
 	}
 
-	bool produce(int16_t *audio_buffer, int channel_select) final {
+	template<typename SAMPLE>
+	bool produce_symbol(SAMPLE *audio_buffer, int channel_select, float factor) {
+		StageTimer timer(Metrics::PRODUCE);
+		bool real = channel_select != 4;
+		if (real != real_output) {
+			real_output = real;
+			ahead_begin = ahead_end = 0;
+			sync_cached = preamble_cached = pilot_cached = false;
+			std::fill(fancy_cached, fancy_cached + 11, false);
+		}
 		switch (count_down) {
 			case 6:
 				if (noise_count) {
@@ -298,36 +468,94 @@ public:
 				--count_down;
 				break;
 			default:
-				for (int i = 0; i < extended_length; ++i)
-					next_sample(audio_buffer, 0, channel_select, i);
+				std::fill(audio_buffer, audio_buffer + (channel_select ? 2 : 1) * extended_length, 0);
 				return false;
 		}
-		for (int i = 0; i < guard_length; ++i) {
-			float x = i / float(guard_length - 1);
-			float y = 0.5f * (1 - std::cos(DSP::Const<float>::Pi() * x));
-			cmplx sum = DSP::lerp(guard[i], temp[i + symbol_length - guard_length], y);
-			next_sample(audio_buffer, sum, channel_select, i);
+		StageTimer output_timer(Metrics::OUTPUT);
+		for (int i = 0; i < guard_length; ++i)
+			guard[i] = DSP::lerp(guard[i], temp[i + symbol_length - guard_length], window[i]);
+		switch (channel_select) {
+			case 1:
+				output<1>(audio_buffer, factor);
+				break;
+			case 2:
+				output<2>(audio_buffer, factor);
+				break;
+			case 4:
+				output<4>(audio_buffer, factor);
+				break;
+			default:
+				output<0>(audio_buffer, factor);
 		}
 		for (int i = 0; i < guard_length; ++i)
 			guard[i] = temp[i];
-		for (int i = 0; i < symbol_length; ++i)
-			next_sample(audio_buffer, temp[i], channel_select, i + guard_length);
 		return true;
 	}
+public:
+	Encoder() : noise_seq(noise_poly), crc(0xA8F4), bch({
+		0b100011101, 0b101110111, 0b111110011, 0b101101001,
+		0b110111101, 0b111100111, 0b100101011, 0b111010111,
+		0b000010011, 0b101100101, 0b110001011, 0b101100011,
+		0b100011011, 0b100111111, 0b110001101, 0b100101101,
+		0b101011111, 0b111111001, 0b111000011, 0b100111001,
+		0b110101001, 0b000011111, 0b110000111, 0b110110001}) {
+		for (int i = 0; i < guard_length; ++i) {
+			float x = i / float(guard_length - 1);
+			window[i] = 0.5f * (1 - std::cos(DSP::Const<float>::Pi() * x));
+		}
+	}
+
+	~Encoder() override {
+		stop_workers();
+	}
+
+	int rate() final {
+		return RATE;
+	}
+
+	void parallel(int threads) final {
+		thread_count = std::max(1, threads);
+		prepare_threads();
+	}
+
+	// total number of symbols produced after configure
+	int symbols() final {
+		return noise_count + 2 + (symbol_count ? symbol_count + 1 : 0) + fancy_line + 1;
+	}
+
+	bool produce(int16_t *audio_buffer, int channel_select) final {
+		return produce_symbol(audio_buffer, channel_select, scale);
+	}
+
+	bool produce(float *audio_buffer, int channel_select) final {
+		return produce_symbol(audio_buffer, channel_select, float_scale);
+	}
 
 	void configure(const uint8_t *payload, const int8_t *call_sign, int operation_mode, int carrier_frequency, int noise_symbols, bool fancy_header) final {
-		carrier_offset = (carrier_frequency * symbol_length) / RATE;
-		meta_data = (base37(call_sign) << 8) | operation_mode;
-		for (int i = 0; i < 9; ++i)
-			call[i] = 0;
+		StageTimer timer(Metrics::CONFIGURE);
+		int offset = (carrier_frequency * symbol_length) / RATE;
+		uint64_t meta = (base37(call_sign) << 8) | operation_mode;
+		uint8_t sign[9] = {0};
 		for (int i = 0; i < 9 && call_sign[i]; ++i)
-			call[i] = base37_map(call_sign[i]);
+			sign[i] = base37_map(call_sign[i]);
+		bool same_offset = offset == carrier_offset;
+		bool same_call = std::equal(sign, sign + 9, call);
+		int car_cnt = pay_car_cnt;
+		sync_cached &= same_offset;
+		preamble_cached &= same_offset && meta == meta_data;
+		for (int i = 0; i < 11; ++i)
+			fancy_cached[i] &= same_offset && same_call;
+		carrier_offset = offset;
+		meta_data = meta;
+		std::copy(sign, sign + 9, call);
 		count_down = 6;
 		fancy_line = 11 * fancy_header;
 		noise_count = noise_symbols;
 		for (int i = 0; i < guard_length; ++i)
 			guard[i] = 0;
 		prepare(operation_mode);
+		ahead_begin = ahead_end = 0;
+		pilot_cached &= same_offset && car_cnt == pay_car_cnt;
 		if (operation_mode) {
 			CODE::Xorshift32 scrambler;
 			for (int i = 0; i < data_bits / 8; ++i)
@@ -0,0 +1,95 @@
+/*
+Sink that writes everything it gets into a float WAV file
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <atomic>
+#include <chrono>
+#include <thread>
+#include <cstdio>
+#include "audio_engine.hh"
+#include "wav.hh"
+
+class FileSink : public Sink {
+	static const int max_frames = 4096;
+	float buffer[2 * max_frames];
+	std::thread thread;
+	std::atomic<bool> stopping{false};
+	Source *source = nullptr;
+	FILE *file = nullptr;
+	const char *name;
+	int channels = 0;
+	int rate = 0;
+	long total = 0;
+
+	void loop() {
+		while (!stopping.load(std::memory_order_relaxed) && source->running()) {
+			int count = source->pull(buffer, max_frames);
+			if (count)
+				fwrite(buffer, sizeof(float) * channels, count, file);
+			else
+				std::this_thread::yield();
+			total += count;
+		}
+	}
+
+public:
+	explicit FileSink(const char *name) : name(name) {}
+
+	bool start(Source *source, int rate, int channels) final {
+		stop();
+		file = fopen(name, "wb");
+		if (!file)
+			return false;
+		this->source = source;
+		this->rate = rate;
+		this->channels = channels;
+		total = 0;
+		WavHeader header(rate, channels, 32, 0, true);
+		fwrite(header.data(), 1, WavHeader::size, file);
+		return true;
+	}
+
+	bool play() final {
+		stopping.store(false, std::memory_order_relaxed);
+		thread = std::thread(&FileSink::loop, this);
+		return true;
+	}
+
+	void stop() final {
+		stopping.store(true, std::memory_order_relaxed);
+		if (thread.joinable())
+			thread.join();
+		if (!file)
+			return;
+		WavHeader header(rate, channels, 32, total, true);
+		fseek(file, 0, SEEK_SET);
+		fwrite(header.data(), 1, WavHeader::size, file);
+		fclose(file);
+		file = nullptr;
+	}
+
+	// pulls as fast as the source renders
+	bool realtime() const final {
+		return false;
+	}
+
+	// blocks until the source ran dry, even when it did not let the sink play yet
+	void wait() {
+		while (source && source->running())
+			std::this_thread::sleep_for(std::chrono::milliseconds(1));
+		if (thread.joinable())
+			thread.join();
+	}
+
+	long frames_written() const {
+		return total;
+	}
+
+	~FileSink() override {
+		stop();
+	}
+};
@@ -0,0 +1,119 @@
+/*
+Stage timings of the encoder and trace sections for Perfetto
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <atomic>
+#include <chrono>
+#ifdef __ANDROID__
+#include <dlfcn.h>
+#endif
+
+// CLOCK_MONOTONIC, the same clock as System.nanoTime() on Android
+inline long long monotonic_nanos() {
+	return std::chrono::duration_cast<std::chrono::nanoseconds>(std::chrono::steady_clock::now().time_since_epoch()).count();
+}
+
+class Trace {
+	typedef void (*begin_function)(const char *);
+	typedef void (*end_function)();
+	begin_function begin_section = nullptr;
+	end_function end_section = nullptr;
+public:
+	Trace() {
+#ifdef __ANDROID__
+		// ATrace only made it into the NDK with API 23, so it is looked up at run time
+		void *library = dlopen("libandroid.so", RTLD_NOW | RTLD_LOCAL);
+		if (!library)
+			return;
+		begin_section = reinterpret_cast<begin_function>(dlsym(library, "ATrace_beginSection"));
+		end_section = reinterpret_cast<end_function>(dlsym(library, "ATrace_endSection"));
+		if (!begin_section || !end_section)
+			begin_section = nullptr;
+#endif
+	}
+
+	// sections must nest on the same thread
+	void begin(const char *name) {
+		if (begin_section)
+			begin_section(name);
+	}
+
+	void end() {
+		if (begin_section)
+			end_section();
+	}
+};
+
+class Metrics {
+public:
+	enum Stage {
+		CONFIGURE,
+		PRODUCE,
+		PAPR,
+		FFT,
+		OUTPUT,
+		STAGES
+	};
+private:
+	std::atomic<long long> counts[STAGES], nanos[STAGES], max_nanos[STAGES];
+public:
+	Metrics() {
+		reset();
+	}
+
+	static const char *name(int stage) {
+		static const char *names[STAGES] = {"configure", "produce", "papr", "fft", "output"};
+		return names[stage];
+	}
+
+	// lock free, so it can be called from the render threads
+	void record(int stage, long long duration) {
+		counts[stage].fetch_add(1, std::memory_order_relaxed);
+		nanos[stage].fetch_add(duration, std::memory_order_relaxed);
+		long long max = max_nanos[stage].load(std::memory_order_relaxed);
+		while (duration > max && !max_nanos[stage].compare_exchange_weak(max, duration, std::memory_order_relaxed));
+	}
+
+	long long count(int stage) const {
+		return counts[stage].load(std::memory_order_relaxed);
+	}
+
+	long long total(int stage) const {
+		return nanos[stage].load(std::memory_order_relaxed);
+	}
+
+	long long max(int stage) const {
+		return max_nanos[stage].load(std::memory_order_relaxed);
+	}
+
+	void reset() {
+		for (int i = 0; i < STAGES; ++i) {
+			counts[i].store(0, std::memory_order_relaxed);
+			nanos[i].store(0, std::memory_order_relaxed);
+			max_nanos[i].store(0, std::memory_order_relaxed);
+		}
+	}
+};
+
+inline Trace trace;
+inline Metrics metrics;
+
+// times the enclosing scope and shows it as a trace section
+class StageTimer {
+	int stage;
+	long long begin;
+public:
+	explicit StageTimer(int stage) : stage(stage) {
+		trace.begin(Metrics::name(stage));
+		begin = monotonic_nanos();
+	}
+
+	~StageTimer() {
+		metrics.record(stage, monotonic_nanos() - begin);
+		trace.end();
+	}
+};
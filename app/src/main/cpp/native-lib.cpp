@@ -5,19 +5,41 @@ Copyright 2021 Ahmet Inan <inan@aicodix.de>
 */
 
 #include <jni.h>
+#include <android/bitmap.h>
+#include <mutex>
 #define assert(expr)
 #include "encoder.hh"
+#include "metrics.hh"
+#include "audio_engine.hh"
+#include "opensl_sink.hh"
+#include "downscale.hh"
+#include "waveform_cache.hh"
 
-static Interface *encoder;
+static Interface *engineEncoder;
+static AudioEngine *engine;
+static OpenSLSink *sink;
+static Downscale *downscale;
+static WaveformCache waveformCache;
 
-extern "C" JNIEXPORT jboolean JNICALL
-Java_com_aicodix_shredpix_MainActivity_createEncoder(
+static Interface *fromHandle(jlong handle) {
+	return reinterpret_cast<Interface *>(handle);
+}
+
+static void destroyEngine() {
+	delete engine;
+	engine = nullptr;
+	delete sink;
+	sink = nullptr;
+	engineEncoder = nullptr;
+}
+
+extern "C" JNIEXPORT jlong JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_create(
 	JNIEnv *,
-	jobject,
-	jint sampleRate) {
-	if (encoder && encoder->rate() == sampleRate)
-		return true;
-	delete encoder;
+	jclass,
+	jint sampleRate,
+	jboolean cached) {
+	Interface *encoder;
 	switch (sampleRate) {
 		case 8000:
 			encoder = new(std::nothrow) Encoder<8000>();
@@ -37,61 +59,241 @@ Java_com_aicodix_shredpix_MainActivity_createEncoder(
 		default:
 			encoder = nullptr;
 	}
-	return encoder != nullptr;
+	if (!encoder || !cached)
+		return reinterpret_cast<jlong>(encoder);
+	Interface *caching = new(std::nothrow) CachingEncoder(encoder, &waveformCache);
+	if (!caching)
+		delete encoder;
+	return reinterpret_cast<jlong>(caching);
 }
 
 extern "C" JNIEXPORT void JNICALL
-Java_com_aicodix_shredpix_MainActivity_destroyEncoder(
+Java_com_aicodix_shredpix_NativeEncoder_cacheLimit(
 	JNIEnv *,
-	jobject) {
+	jclass,
+	jlong maxBytes) {
+	waveformCache.limit(std::max<jlong>(maxBytes, 0));
+}
+
+extern "C" JNIEXPORT jlong JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_cacheSize(
+	JNIEnv *,
+	jclass) {
+	return waveformCache.size();
+}
+
+extern "C" JNIEXPORT jlong JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_cacheHits(
+	JNIEnv *,
+	jclass) {
+	return waveformCache.hits();
+}
+
+extern "C" JNIEXPORT jlong JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_cacheMisses(
+	JNIEnv *,
+	jclass) {
+	return waveformCache.misses();
+}
+
+extern "C" JNIEXPORT void JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_destroy(
+	JNIEnv *,
+	jclass,
+	jlong handle) {
+	Interface *encoder = fromHandle(handle);
+	if (encoder && encoder == engineEncoder)
+		destroyEngine();
 	delete encoder;
-	encoder = nullptr;
+}
+
+extern "C" JNIEXPORT jint JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_rate(
+	JNIEnv *,
+	jclass,
+	jlong handle) {
+	Interface *encoder = fromHandle(handle);
+	return encoder ? encoder->rate() : 0;
+}
+
+extern "C" JNIEXPORT void JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_parallel(
+	JNIEnv *,
+	jclass,
+	jlong handle,
+	jint threads) {
+	Interface *encoder = fromHandle(handle);
+	if (encoder)
+		encoder->parallel(threads);
+}
+
+extern "C" JNIEXPORT jint JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_symbols(
+	JNIEnv *,
+	jclass,
+	jlong handle) {
+	Interface *encoder = fromHandle(handle);
+	return encoder ? encoder->symbols() : 0;
 }
 
 extern "C" JNIEXPORT jboolean JNICALL
-Java_com_aicodix_shredpix_MainActivity_produceEncoder(
-	JNIEnv *env,
+Java_com_aicodix_shredpix_MainActivity_startEngine(
+	JNIEnv *,
 	jobject,
-	jshortArray JNI_audioBuffer,
+	jlong handle,
 	jint channelSelect) {
 
+	Interface *encoder = fromHandle(handle);
 	if (!encoder)
 		return false;
 
-	jshort *audioBuffer = env->GetShortArrayElements(JNI_audioBuffer, nullptr);
-	jboolean okay = false;
-	if (audioBuffer)
-		okay = encoder->produce(audioBuffer, channelSelect);
-	env->ReleaseShortArrayElements(JNI_audioBuffer, audioBuffer, 0);
-	return okay;
+	if (engine && engineEncoder != encoder)
+		destroyEngine();
+	if (!sink)
+		sink = new(std::nothrow) OpenSLSink();
+	if (!sink)
+		return false;
+	if (!engine)
+		engine = new(std::nothrow) AudioEngine(encoder, sink);
+	if (!engine)
+		return false;
+	engineEncoder = encoder;
+	return engine->start(channelSelect);
+}
+
+extern "C" JNIEXPORT void JNICALL
+Java_com_aicodix_shredpix_MainActivity_stopEngine(
+	JNIEnv *,
+	jobject) {
+	if (engine)
+		engine->stop();
+}
+
+extern "C" JNIEXPORT jboolean JNICALL
+Java_com_aicodix_shredpix_MainActivity_engineRunning(
+	JNIEnv *,
+	jobject) {
+	return engine && engine->running();
+}
+
+extern "C" JNIEXPORT jlong JNICALL
+Java_com_aicodix_shredpix_MainActivity_engineFirstSample(
+	JNIEnv *,
+	jobject) {
+	return engine ? engine->first_sample_nanos() : 0;
+}
+
+extern "C" JNIEXPORT jint JNICALL
+Java_com_aicodix_shredpix_MainActivity_engineUnderruns(
+	JNIEnv *,
+	jobject) {
+	return engine ? engine->underrun_count() : 0;
+}
+
+extern "C" JNIEXPORT jint JNICALL
+Java_com_aicodix_shredpix_Metrics_nativeStages(
+	JNIEnv *,
+	jclass) {
+	return Metrics::STAGES;
+}
+
+extern "C" JNIEXPORT jstring JNICALL
+Java_com_aicodix_shredpix_Metrics_nativeName(
+	JNIEnv *env,
+	jclass,
+	jint stage) {
+	if (stage < 0 || stage >= Metrics::STAGES)
+		return nullptr;
+	return env->NewStringUTF(Metrics::name(stage));
 }
 
 extern "C" JNIEXPORT void JNICALL
-Java_com_aicodix_shredpix_MainActivity_configureEncoder(
+Java_com_aicodix_shredpix_Metrics_nativeStats(
 	JNIEnv *env,
-	jobject,
-	jbyteArray JNI_payload,
+	jclass,
+	jint stage,
+	jlongArray JNI_values) {
+	if (stage < 0 || stage >= Metrics::STAGES || env->GetArrayLength(JNI_values) < 3)
+		return;
+	jlong values[3] = {metrics.count(stage), metrics.total(stage), metrics.max(stage)};
+	env->SetLongArrayRegion(JNI_values, 0, 3, values);
+}
+
+extern "C" JNIEXPORT void JNICALL
+Java_com_aicodix_shredpix_Metrics_nativeReset(
+	JNIEnv *,
+	jclass) {
+	metrics.reset();
+}
+
+template<typename SAMPLE>
+static jint produce(JNIEnv *env, jlong handle, jobject JNI_audioBuffer, jint channelSelect) {
+	Interface *encoder = fromHandle(handle);
+	if (!encoder)
+		return 0;
+
+	auto audioBuffer = reinterpret_cast<SAMPLE *>(env->GetDirectBufferAddress(JNI_audioBuffer));
+	jlong capacity = env->GetDirectBufferCapacity(JNI_audioBuffer);
+	if (!audioBuffer || capacity <= 0)
+		return 0;
+	int channels = channelSelect ? 2 : 1;
+	int extendedLength = ((1280 * encoder->rate()) / 8000) * 9 / 8;
+	int symbolSamples = channels * extendedLength;
+	int symbols = capacity / (sizeof(SAMPLE) * symbolSamples);
+	int count = 0;
+	while (count < symbols && encoder->produce(audioBuffer + count * symbolSamples, channelSelect))
+		++count;
+	return count * symbolSamples * sizeof(SAMPLE);
+}
+
+extern "C" JNIEXPORT jint JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_produce(
+	JNIEnv *env,
+	jclass,
+	jlong handle,
+	jobject JNI_audioBuffer,
+	jint channelSelect) {
+	return produce<int16_t>(env, handle, JNI_audioBuffer, channelSelect);
+}
+
+extern "C" JNIEXPORT jint JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_produceFloat(
+	JNIEnv *env,
+	jclass,
+	jlong handle,
+	jobject JNI_audioBuffer,
+	jint channelSelect) {
+	return produce<float>(env, handle, JNI_audioBuffer, channelSelect);
+}
+
+extern "C" JNIEXPORT void JNICALL
+Java_com_aicodix_shredpix_NativeEncoder_configure(
+	JNIEnv *env,
+	jclass,
+	jlong handle,
+	jobject JNI_payload,
 	jbyteArray JNI_callSign,
 	jint operationMode,
 	jint carrierFrequency,
 	jint noiseSymbols,
 	jboolean fancyHeader) {
 
+	Interface *encoder = fromHandle(handle);
 	if (!encoder)
 		return;
 
-	jbyte *payload = nullptr, *callSign;
+	uint8_t *payload = nullptr;
 	if (operationMode) {
-		payload = env->GetByteArrayElements(JNI_payload, nullptr);
+		payload = reinterpret_cast<uint8_t *>(env->GetDirectBufferAddress(JNI_payload));
 		if (!payload)
-			goto payloadFail;
+			return;
 	}
-	callSign = env->GetByteArrayElements(JNI_callSign, nullptr);
+	jbyte *callSign = env->GetByteArrayElements(JNI_callSign, nullptr);
 	if (!callSign)
-		goto callSignFail;
+		return;
 
 	encoder->configure(
-		reinterpret_cast<uint8_t *>(payload),
+		payload,
 		reinterpret_cast<int8_t *>(callSign),
 		operationMode,
 		carrierFrequency,
@@ -99,8 +301,47 @@ Java_com_aicodix_shredpix_MainActivity_configureEncoder(
 		fancyHeader);
 
 	env->ReleaseByteArrayElements(JNI_callSign, callSign, JNI_ABORT);
-	callSignFail:
-	if (operationMode)
-		env->ReleaseByteArrayElements(JNI_payload, payload, JNI_ABORT);
-	payloadFail:;
+}
+
+extern "C" JNIEXPORT jboolean JNICALL
+Java_com_aicodix_shredpix_NativeBitmap_downscale(
+	JNIEnv *env,
+	jclass,
+	jobject source,
+	jobject target,
+	jint orientation) {
+
+	AndroidBitmapInfo sourceInfo, targetInfo;
+	if (AndroidBitmap_getInfo(env, source, &sourceInfo) != ANDROID_BITMAP_RESULT_SUCCESS)
+		return false;
+	if (AndroidBitmap_getInfo(env, target, &targetInfo) != ANDROID_BITMAP_RESULT_SUCCESS)
+		return false;
+	if (sourceInfo.format != ANDROID_BITMAP_FORMAT_RGBA_8888 || targetInfo.format != ANDROID_BITMAP_FORMAT_RGBA_8888)
+		return false;
+	static std::mutex mutex;
+	std::lock_guard<std::mutex> lock(mutex);
+	if (!downscale)
+		downscale = new(std::nothrow) Downscale();
+	if (!downscale)
+		return false;
+
+	void *sourcePixels, *targetPixels;
+	if (AndroidBitmap_lockPixels(env, source, &sourcePixels) != ANDROID_BITMAP_RESULT_SUCCESS)
+		return false;
+	jboolean okay = false;
+	if (AndroidBitmap_lockPixels(env, target, &targetPixels) == ANDROID_BITMAP_RESULT_SUCCESS) {
+		okay = (*downscale)(
+			reinterpret_cast<uint8_t *>(targetPixels),
+			targetInfo.width,
+			targetInfo.height,
+			targetInfo.stride,
+			reinterpret_cast<const uint8_t *>(sourcePixels),
+			sourceInfo.width,
+			sourceInfo.height,
+			sourceInfo.stride,
+			orientation);
+		AndroidBitmap_unlockPixels(env, target);
+	}
+	AndroidBitmap_unlockPixels(env, source);
+	return okay;
 }
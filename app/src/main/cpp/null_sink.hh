@@ -0,0 +1,72 @@
+/*
+Sink that discards everything, optionally at the pace of a real device
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <atomic>
+#include <chrono>
+#include <thread>
+#include "audio_engine.hh"
+
+class NullSink : public Sink {
+	static const int max_frames = 1024;
+	float buffer[2 * max_frames];
+	std::thread thread;
+	std::atomic<bool> stopping{false};
+	Source *source = nullptr;
+	bool paced;
+	int frames = 0;
+	int rate = 0;
+	long total = 0;
+
+	void loop() {
+		auto next = std::chrono::steady_clock::now();
+		auto period = std::chrono::microseconds((1000000LL * frames) / rate);
+		while (!stopping.load(std::memory_order_relaxed) && source->running()) {
+			total += source->pull(buffer, frames);
+			if (paced) {
+				next += period;
+				std::this_thread::sleep_until(next);
+			}
+		}
+	}
+
+public:
+	explicit NullSink(bool paced = false) : paced(paced) {}
+
+	bool start(Source *source, int rate, int) final {
+		stop();
+		this->source = source;
+		this->rate = rate;
+		frames = std::min(max_frames, rate / 50);
+		total = 0;
+		return true;
+	}
+
+	bool play() final {
+		stopping.store(false, std::memory_order_relaxed);
+		thread = std::thread(&NullSink::loop, this);
+		return true;
+	}
+
+	void stop() final {
+		stopping.store(true, std::memory_order_relaxed);
+		if (thread.joinable())
+			thread.join();
+	}
+
+	bool realtime() const final {
+		return paced;
+	}
+
+	long frames_pulled() const {
+		return total;
+	}
+
+	~NullSink() override {
+		stop();
+	}
+};
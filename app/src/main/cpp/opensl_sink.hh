@@ -0,0 +1,137 @@
+/*
+Sink feeding an OpenSL ES buffer queue player
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <cmath>
+#include <algorithm>
+#include <SLES/OpenSLES.h>
+#include <SLES/OpenSLES_Android.h>
+#include "audio_engine.hh"
+
+class OpenSLSink : public Sink {
+	static const int buffer_count = 2;
+	static const int max_frames = 1024;
+	float buffers[buffer_count][2 * max_frames];
+	int16_t pcm_buffers[buffer_count][2 * max_frames];
+	SLObjectItf engine_object = nullptr;
+	SLObjectItf mix_object = nullptr;
+	SLObjectItf player_object = nullptr;
+	SLPlayItf play_itf = nullptr;
+	SLAndroidSimpleBufferQueueItf queue_itf = nullptr;
+	Source *source = nullptr;
+	int channels = 0;
+	int frames = 0;
+	int current = 0;
+	bool floating = false;
+
+	static void callback(SLAndroidSimpleBufferQueueItf, void *context) {
+		static_cast<OpenSLSink *>(context)->enqueue();
+	}
+
+	void enqueue() {
+		float *samples = buffers[current];
+		source->pull(samples, frames);
+		if (floating) {
+			(*queue_itf)->Enqueue(queue_itf, samples, sizeof(float) * channels * frames);
+		} else {
+			int16_t *pcm = pcm_buffers[current];
+			for (int i = 0; i < channels * frames; ++i)
+				pcm[i] = std::clamp<float>(std::nearbyint(32768 * samples[i]), -32768, 32767);
+			(*queue_itf)->Enqueue(queue_itf, pcm, sizeof(int16_t) * channels * frames);
+		}
+		current = (current + 1) % buffer_count;
+	}
+
+	bool open(int rate) {
+		if (slCreateEngine(&engine_object, 0, nullptr, 0, nullptr, nullptr) != SL_RESULT_SUCCESS)
+			return false;
+		if ((*engine_object)->Realize(engine_object, SL_BOOLEAN_FALSE) != SL_RESULT_SUCCESS)
+			return false;
+		SLEngineItf engine_itf;
+		if ((*engine_object)->GetInterface(engine_object, SL_IID_ENGINE, &engine_itf) != SL_RESULT_SUCCESS)
+			return false;
+		if ((*engine_itf)->CreateOutputMix(engine_itf, &mix_object, 0, nullptr, nullptr) != SL_RESULT_SUCCESS)
+			return false;
+		if ((*mix_object)->Realize(mix_object, SL_BOOLEAN_FALSE) != SL_RESULT_SUCCESS)
+			return false;
+		SLDataLocator_AndroidSimpleBufferQueue queue_loc = {SL_DATALOCATOR_ANDROIDSIMPLEBUFFERQUEUE, buffer_count};
+		SLuint32 mask = channels == 1 ? SL_SPEAKER_FRONT_CENTER : SL_SPEAKER_FRONT_LEFT | SL_SPEAKER_FRONT_RIGHT;
+		SLAndroidDataFormat_PCM_EX format = {
+			SL_ANDROID_DATAFORMAT_PCM_EX,
+			SLuint32(channels),
+			SLuint32(rate * 1000),
+			floating ? SL_PCMSAMPLEFORMAT_FIXED_32 : SL_PCMSAMPLEFORMAT_FIXED_16,
+			floating ? SL_PCMSAMPLEFORMAT_FIXED_32 : SL_PCMSAMPLEFORMAT_FIXED_16,
+			mask,
+			SL_BYTEORDER_LITTLEENDIAN,
+			floating ? SL_ANDROID_PCM_REPRESENTATION_FLOAT : SL_ANDROID_PCM_REPRESENTATION_SIGNED_INT};
+		SLDataSource data_source = {&queue_loc, &format};
+		SLDataLocator_OutputMix mix_loc = {SL_DATALOCATOR_OUTPUTMIX, mix_object};
+		SLDataSink data_sink = {&mix_loc, nullptr};
+		const SLInterfaceID ids[] = {SL_IID_ANDROIDSIMPLEBUFFERQUEUE};
+		const SLboolean req[] = {SL_BOOLEAN_TRUE};
+		if ((*engine_itf)->CreateAudioPlayer(engine_itf, &player_object, &data_source, &data_sink, 1, ids, req) != SL_RESULT_SUCCESS)
+			return false;
+		if ((*player_object)->Realize(player_object, SL_BOOLEAN_FALSE) != SL_RESULT_SUCCESS)
+			return false;
+		if ((*player_object)->GetInterface(player_object, SL_IID_PLAY, &play_itf) != SL_RESULT_SUCCESS)
+			return false;
+		if ((*player_object)->GetInterface(player_object, SL_IID_ANDROIDSIMPLEBUFFERQUEUE, &queue_itf) != SL_RESULT_SUCCESS)
+			return false;
+		return (*queue_itf)->RegisterCallback(queue_itf, callback, this) == SL_RESULT_SUCCESS;
+	}
+
+public:
+	bool start(Source *source, int rate, int channels) final {
+		stop();
+		this->source = source;
+		this->channels = channels;
+		frames = std::min(max_frames, rate / 50);
+		current = 0;
+		// float saves the mixer a conversion, 16 bit is the fallback for players that refuse it
+		floating = true;
+		if (!open(rate)) {
+			stop();
+			floating = false;
+			if (!open(rate)) {
+				stop();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	bool play() final {
+		for (int i = 0; i < buffer_count; ++i)
+			enqueue();
+		return (*play_itf)->SetPlayState(play_itf, SL_PLAYSTATE_PLAYING) == SL_RESULT_SUCCESS;
+	}
+
+	bool realtime() const final {
+		return true;
+	}
+
+	void stop() final {
+		if (play_itf)
+			(*play_itf)->SetPlayState(play_itf, SL_PLAYSTATE_STOPPED);
+		if (player_object)
+			(*player_object)->Destroy(player_object);
+		if (mix_object)
+			(*mix_object)->Destroy(mix_object);
+		if (engine_object)
+			(*engine_object)->Destroy(engine_object);
+		player_object = nullptr;
+		mix_object = nullptr;
+		engine_object = nullptr;
+		play_itf = nullptr;
+		queue_itf = nullptr;
+	}
+
+	~OpenSLSink() override {
+		stop();
+	}
+};
@@ -0,0 +1,42 @@
+/*
+Bit packed systematic polar encoder
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <cstdint>
+
+// bit i of a codeword is bit i%64 of word i/64, zero stands for the +1 of the NRZ encoders
+template<int LEVEL>
+class PackedPolarSysEnc {
+	static_assert(LEVEL >= 6, "codeword must span at least one word");
+	static const int WORDS = (1 << LEVEL) / 64;
+
+	// the butterfly stages below the word size shift within a word, the others XOR whole words
+	static void transform(uint64_t *codeword) {
+		static const uint64_t masks[6] = {
+			0x5555555555555555ULL, 0x3333333333333333ULL, 0x0f0f0f0f0f0f0f0fULL,
+			0x00ff00ff00ff00ffULL, 0x0000ffff0000ffffULL, 0x00000000ffffffffULL};
+		for (int k = 0; k < WORDS; ++k) {
+			uint64_t word = codeword[k];
+			for (int s = 0; s < 6; ++s)
+				word ^= (word >> (1 << s)) & masks[s];
+			codeword[k] = word;
+		}
+		for (int h = 1; h < WORDS; h *= 2)
+			for (int i = 0; i < WORDS; i += 2 * h)
+				for (int j = i; j < i + h; ++j)
+					codeword[j] ^= codeword[j + h];
+	}
+
+public:
+	// message bits in place at the positions not set in frozen, the frozen positions must be zero
+	void operator()(uint64_t *codeword, const uint64_t *frozen) {
+		transform(codeword);
+		for (int k = 0; k < WORDS; ++k)
+			codeword[k] &= ~frozen[k];
+		transform(codeword);
+	}
+};
@@ -0,0 +1,139 @@
+/*
+Scaled conversion of complex float signals to 16 bit or float PCM
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <cmath>
+#include <cstdint>
+#include <algorithm>
+#if defined(__SSE2__)
+#include <emmintrin.h>
+#elif defined(__aarch64__)
+#include <arm_neon.h>
+#endif
+
+// channel 0 is mono, 1 and 2 put the real part on the left or the right and 4 is real and imaginary as left and right
+template<int CHANNEL>
+struct PCM {
+	static_assert(CHANNEL == 0 || CHANNEL == 1 || CHANNEL == 2 || CHANNEL == 4, "unknown channel mode");
+	static const int channels = CHANNEL ? 2 : 1;
+
+	static int16_t sample(float value, float scale) {
+		return std::clamp<float>(std::nearbyint(scale * value), -32768, 32767);
+	}
+
+	static void scalar(int16_t *output, const float *input, int count, float scale) {
+		for (int i = 0; i < count; ++i) {
+			switch (CHANNEL) {
+				case 1:
+					output[2 * i] = sample(input[2 * i], scale);
+					output[2 * i + 1] = 0;
+					break;
+				case 2:
+					output[2 * i] = 0;
+					output[2 * i + 1] = sample(input[2 * i], scale);
+					break;
+				case 4:
+					output[2 * i] = sample(input[2 * i], scale);
+					output[2 * i + 1] = sample(input[2 * i + 1], scale);
+					break;
+				default:
+					output[i] = sample(input[2 * i], scale);
+			}
+		}
+	}
+
+#if defined(__SSE2__)
+	// clamping first keeps the conversion away from the integer indefinite value
+	static __m128i round(__m128 value, __m128 scale) {
+		value = _mm_mul_ps(value, scale);
+		value = _mm_min_ps(_mm_max_ps(value, _mm_set1_ps(-32768.f)), _mm_set1_ps(32767.f));
+		return _mm_cvtps_epi32(value);
+	}
+
+	static int vector(int16_t *output, const float *input, int count, float scale) {
+		__m128 factor = _mm_set1_ps(scale);
+		__m128i zero = _mm_setzero_si128();
+		int i = 0;
+		for (; i + 4 <= count; i += 4, input += 8) {
+			__m128 lower = _mm_loadu_ps(input);
+			__m128 upper = _mm_loadu_ps(input + 4);
+			if (CHANNEL == 4) {
+				__m128i pcm = _mm_packs_epi32(round(lower, factor), round(upper, factor));
+				_mm_storeu_si128(reinterpret_cast<__m128i *>(output + 2 * i), pcm);
+				continue;
+			}
+			__m128i real = round(_mm_shuffle_ps(lower, upper, _MM_SHUFFLE(2, 0, 2, 0)), factor);
+			__m128i pcm = _mm_packs_epi32(real, real);
+			if (CHANNEL == 1)
+				_mm_storeu_si128(reinterpret_cast<__m128i *>(output + 2 * i), _mm_unpacklo_epi16(pcm, zero));
+			else if (CHANNEL == 2)
+				_mm_storeu_si128(reinterpret_cast<__m128i *>(output + 2 * i), _mm_unpacklo_epi16(zero, pcm));
+			else
+				_mm_storel_epi64(reinterpret_cast<__m128i *>(output + i), pcm);
+		}
+		return i;
+	}
+#elif defined(__aarch64__)
+	static int16x4_t round(float32x4_t value, float32x4_t scale) {
+		return vqmovn_s32(vcvtnq_s32_f32(vmulq_f32(value, scale)));
+	}
+
+	static int vector(int16_t *output, const float *input, int count, float scale) {
+		float32x4_t factor = vdupq_n_f32(scale);
+		int16x4_t zero = vdup_n_s16(0);
+		int i = 0;
+		for (; i + 4 <= count; i += 4, input += 8) {
+			if (CHANNEL == 4) {
+				int16x4_t lower = round(vld1q_f32(input), factor);
+				int16x4_t upper = round(vld1q_f32(input + 4), factor);
+				vst1q_s16(output + 2 * i, vcombine_s16(lower, upper));
+				continue;
+			}
+			int16x4_t real = round(vld2q_f32(input).val[0], factor);
+			if (CHANNEL == 1)
+				vst2_s16(output + 2 * i, int16x4x2_t{{real, zero}});
+			else if (CHANNEL == 2)
+				vst2_s16(output + 2 * i, int16x4x2_t{{zero, real}});
+			else
+				vst1_s16(output + i, real);
+		}
+		return i;
+	}
+#else
+	static int vector(int16_t *, const float *, int, float) {
+		return 0;
+	}
+#endif
+
+	// count complex values in, count times channels samples out
+	static void convert(int16_t *output, const float *input, int count, float scale) {
+		int done = vector(output, input, count, scale);
+		scalar(output + channels * done, input + 2 * done, count - done, scale);
+	}
+
+	// nothing to round or clamp, so the compiler vectorizes this on its own and the headroom above full scale stays
+	static void convert(float *output, const float *input, int count, float scale) {
+		for (int i = 0; i < count; ++i) {
+			switch (CHANNEL) {
+				case 1:
+					output[2 * i] = scale * input[2 * i];
+					output[2 * i + 1] = 0;
+					break;
+				case 2:
+					output[2 * i] = 0;
+					output[2 * i + 1] = scale * input[2 * i];
+					break;
+				case 4:
+					output[2 * i] = scale * input[2 * i];
+					output[2 * i + 1] = scale * input[2 * i + 1];
+					break;
+				default:
+					output[i] = scale * input[2 * i];
+			}
+		}
+	}
+};
@@ -12,31 +12,61 @@ Copyright 2021 Ahmet Inan <inan@aicodix.de>
 #include "bitman.hh"
 #include "complex.hh"
 #include "polar_tables.hh"
-#include "polar_encoder.hh"
+#include "packed_polar.hh"
+
+// positions of the message and of the bits surviving the shortening, per frozen bit table
+struct PolarTable {
+	static const int code_bits = 65536;
+	uint64_t frozen[code_bits / 64];
+	uint16_t mesg[43072];
+	uint16_t kept[64800];
+
+	PolarTable(const uint32_t *frozen_bits, int mesg_bits) {
+		for (int i = 0; i < code_bits / 64; ++i)
+			frozen[i] = frozen_bits[2 * i] | uint64_t(frozen_bits[2 * i + 1]) << 32;
+		for (int i = 0, j = 0, k = 0; i < code_bits; ++i) {
+			bool fixed = (frozen[i / 64] >> (i % 64)) & 1;
+			if (!fixed && k < mesg_bits)
+				mesg[k] = i;
+			if (fixed || k++ < mesg_bits)
+				kept[j++] = i;
+		}
+	}
+
+	static const PolarTable *table_64800() {
+		static const PolarTable table(frozen_64800_43072, 43072);
+		return &table;
+	}
+
+	static const PolarTable *table_64512() {
+		static const PolarTable table(frozen_64512_43072, 43072);
+		return &table;
+	}
+};
 
 class Polar {
 	typedef DSP::Complex<float> cmplx;
 	static const int data_bits = 43040;
 	static const int crc_bits = data_bits + 32;
 	CODE::CRC<uint32_t> crc;
-	CODE::PolarSysEnc<int8_t> encode;
-	int8_t code[65536], mesg[44096];
-	const uint32_t *frozen_bits;
-	int code_order = 0;
+	PackedPolarSysEnc<16> encode;
+	uint64_t code[PolarTable::code_bits / 64];
+	cmplx points[8];
+	const PolarTable *table = nullptr;
 	int cons_bits = 0;
 	int cons_cnt = 0;
-	int mesg_bits = 0;
 	int mod_bits = 0;
 
 	static int nrz(bool bit) {
 		return 1 - 2 * bit;
 	}
 
-	void shorten() {
-		int code_bits = 1 << code_order;
-		for (int i = 0, j = 0, k = 0; i < code_bits; ++i)
-			if ((frozen_bits[i / 32] >> (i % 32)) & 1 || k++ < crc_bits)
-				code[j++] = code[i];
+	void set(int position) {
+		code[position / 64] |= uint64_t(1) << (position % 64);
+	}
+
+	bool get(int position) {
+		return (code[position / 64] >> (position % 64)) & 1;
 	}
 
 	cmplx mod_map(int8_t *b) {
@@ -52,63 +82,37 @@ class Polar {
 	void prepare(int mode) {
 		switch (mode) {
 			case 6:
-				mod_bits = 3;
-				code_order = 16;
-				cons_bits = 64800;
-				mesg_bits = 43808;
-				frozen_bits = frozen_64800_43072;
-				break;
 			case 7:
 				mod_bits = 3;
-				code_order = 16;
 				cons_bits = 64800;
-				mesg_bits = 43808;
-				frozen_bits = frozen_64800_43072;
+				table = PolarTable::table_64800();
 				break;
 			case 8:
-				mod_bits = 2;
-				code_order = 16;
-				cons_bits = 64800;
-				mesg_bits = 43808;
-				frozen_bits = frozen_64800_43072;
-				break;
 			case 9:
 				mod_bits = 2;
-				code_order = 16;
 				cons_bits = 64800;
-				mesg_bits = 43808;
-				frozen_bits = frozen_64800_43072;
+				table = PolarTable::table_64800();
 				break;
 			case 10:
-				mod_bits = 3;
-				code_order = 16;
-				cons_bits = 64512;
-				mesg_bits = 44096;
-				frozen_bits = frozen_64512_43072;
-				break;
 			case 11:
 				mod_bits = 3;
-				code_order = 16;
 				cons_bits = 64512;
-				mesg_bits = 44096;
-				frozen_bits = frozen_64512_43072;
+				table = PolarTable::table_64512();
 				break;
 			case 12:
-				mod_bits = 2;
-				code_order = 16;
-				cons_bits = 64512;
-				mesg_bits = 44096;
-				frozen_bits = frozen_64512_43072;
-				break;
 			case 13:
 				mod_bits = 2;
-				code_order = 16;
 				cons_bits = 64512;
-				mesg_bits = 44096;
-				frozen_bits = frozen_64512_43072;
+				table = PolarTable::table_64512();
 				break;
 		}
 		cons_cnt = cons_bits / mod_bits;
+		for (int v = 0; v < (1 << mod_bits); ++v) {
+			int8_t b[3];
+			for (int i = 0; i < mod_bits; ++i)
+				b[i] = nrz((v >> i) & 1);
+			points[v] = mod_map(b);
+		}
 	}
 
 public:
@@ -117,19 +121,27 @@ public:
 	void operator()(cmplx *cons, const uint8_t *message, int operation_mode) {
 		prepare(operation_mode);
 
-		for (int i = 0; i < data_bits; ++i)
-			mesg[i] = nrz(CODE::get_le_bit(message, i));
+		for (int i = 0; i < PolarTable::code_bits / 64; ++i)
+			code[i] = 0;
 		crc.reset();
-		for (int i = 0; i < data_bits / 8; ++i)
+		for (int i = 0; i < data_bits / 8; ++i) {
 			crc(message[i]);
+			for (int j = 0; j < 8; ++j)
+				if ((message[i] >> j) & 1)
+					set(table->mesg[8 * i + j]);
+		}
 		for (int i = 0; i < 32; ++i)
-			mesg[i + data_bits] = nrz((crc() >> i) & 1);
-		for (int i = crc_bits; i < mesg_bits; ++i)
-			mesg[i] = 1;
-		encode(code, mesg, frozen_bits, code_order);
-		shorten();
-
-		for (int i = 0; i < cons_cnt; ++i)
-			cons[i] = mod_map(code + mod_bits * i);
+			if ((crc() >> i) & 1)
+				set(table->mesg[data_bits + i]);
+		encode(code, table->frozen);
+
+		// shortening and mapping in one pass
+		const uint16_t *kept = table->kept;
+		for (int i = 0; i < cons_cnt; ++i, kept += mod_bits) {
+			int v = 0;
+			for (int j = 0; j < mod_bits; ++j)
+				v |= get(kept[j]) << j;
+			cons[i] = points[v];
+		}
 	}
 };
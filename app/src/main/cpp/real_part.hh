@@ -0,0 +1,41 @@
+/*
+Real part of the backward transform using a complex transform of half the length
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include "unit_circle.hh"
+#include "fft.hh"
+
+// the imaginary parts of the output are left at zero
+template<int BINS, typename cmplx>
+class RealPartTransform {
+	static_assert(BINS % 2 == 0, "BINS must be even");
+	static const int N = BINS / 2;
+	typedef typename cmplx::value_type value;
+	DSP::FastFourierTransform<N, cmplx, 1> bwd;
+	cmplx twiddle[N], fold[N], half[N];
+public:
+	RealPartTransform() {
+		for (int k = 0; k < N; ++k)
+			twiddle[k] = cmplx(DSP::UnitCircle<value>::cos(k, BINS), DSP::UnitCircle<value>::sin(k, BINS));
+	}
+
+	void operator()(cmplx *out, const cmplx *in) {
+		// the even samples come from the sum, the odd ones from the twiddled difference of both halves
+		// of the hermitian part of the spectrum, both real, so they share one transform
+		for (int k = 0; k < N; ++k) {
+			cmplx lower = in[k] + conj(in[k ? BINS - k : 0]);
+			cmplx upper = in[k + N] + conj(in[N - k]);
+			cmplx even = lower + upper, odd = (lower - upper) * twiddle[k];
+			fold[k] = value(0.5) * cmplx(even.real() - odd.imag(), even.imag() + odd.real());
+		}
+		bwd(half, fold);
+		for (int n = 0; n < N; ++n) {
+			out[2 * n] = half[n].real();
+			out[2 * n + 1] = half[n].imag();
+		}
+	}
+};
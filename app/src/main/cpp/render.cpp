@@ -0,0 +1,226 @@
+/*
+Render a directory of payloads to COFDMTV audio files
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#include <mutex>
+#include <atomic>
+#include <chrono>
+#include <thread>
+#include <string>
+#include <vector>
+#include <memory>
+#include <type_traits>
+#include <cstdio>
+#include <cstdlib>
+#include <cstring>
+#include <dirent.h>
+#include <unistd.h>
+#include <sys/stat.h>
+#define assert(expr)
+#include "encoder.hh"
+#include "wav.hh"
+
+static const int payload_size = 5380;
+
+struct Options {
+	int operation_mode = 11;
+	int carrier_frequency = 1700;
+	int sample_rate = 8000;
+	int noise_symbols = 6;
+	int channel_select = 0;
+	bool fancy_header = true;
+	bool floating = false;
+	int jobs = 0;
+	const char *call_sign = "ANONYMOUS";
+	std::string input, output;
+};
+
+struct Job {
+	std::string name;
+	long symbols = 0;
+	double seconds = 0;
+	bool okay = false;
+};
+
+static Interface *create_encoder(int rate) {
+	switch (rate) {
+		case 8000:
+			return new(std::nothrow) Encoder<8000>();
+		case 16000:
+			return new(std::nothrow) Encoder<16000>();
+		case 32000:
+			return new(std::nothrow) Encoder<32000>();
+		case 44100:
+			return new(std::nothrow) Encoder<44100>();
+		case 48000:
+			return new(std::nothrow) Encoder<48000>();
+	}
+	return nullptr;
+}
+
+static bool read_payload(uint8_t *payload, const std::string &name) {
+	FILE *file = fopen(name.c_str(), "rb");
+	if (!file)
+		return false;
+	int size = fread(payload, 1, payload_size, file);
+	bool fits = size > 0 && fgetc(file) == EOF;
+	fclose(file);
+	std::fill(payload + std::max(size, 0), payload + payload_size, 0);
+	return fits;
+}
+
+template<typename SAMPLE>
+static bool render(Interface *encoder, const Options &options, Job &job) {
+	uint8_t payload[payload_size];
+	if (!read_payload(payload, options.input + "/" + job.name))
+		return false;
+	FILE *file = fopen((options.output + "/" + job.name + ".wav").c_str(), "wb");
+	if (!file)
+		return false;
+	int rate = options.sample_rate;
+	int channels = options.channel_select ? 2 : 1;
+	int extended_length = ((1280 * rate) / 8000) * 9 / 8;
+	const int bits = 8 * sizeof(SAMPLE);
+	const bool floating = std::is_floating_point<SAMPLE>::value;
+	std::vector<SAMPLE> audio(channels * extended_length);
+	WavHeader header(rate, channels, bits, 0, floating);
+	fwrite(header.data(), 1, WavHeader::size, file);
+	auto start = std::chrono::steady_clock::now();
+	encoder->configure(payload, reinterpret_cast<const int8_t *>(options.call_sign), options.operation_mode,
+		options.carrier_frequency, options.noise_symbols, options.fancy_header);
+	while (encoder->produce(audio.data(), options.channel_select)) {
+		fwrite(audio.data(), sizeof(SAMPLE), audio.size(), file);
+		++job.symbols;
+	}
+	job.seconds = std::chrono::duration<double>(std::chrono::steady_clock::now() - start).count();
+	WavHeader final_header(rate, channels, bits, job.symbols * extended_length, floating);
+	fseek(file, 0, SEEK_SET);
+	fwrite(final_header.data(), 1, WavHeader::size, file);
+	return !fclose(file);
+}
+
+static std::vector<Job> list_jobs(const std::string &directory) {
+	std::vector<Job> jobs;
+	DIR *dir = opendir(directory.c_str());
+	if (!dir)
+		return jobs;
+	while (dirent *entry = readdir(dir)) {
+		struct stat info;
+		if (stat((directory + "/" + entry->d_name).c_str(), &info) || !S_ISREG(info.st_mode))
+			continue;
+		jobs.emplace_back();
+		jobs.back().name = entry->d_name;
+	}
+	closedir(dir);
+	std::sort(jobs.begin(), jobs.end(), [](const Job &a, const Job &b) { return a.name < b.name; });
+	return jobs;
+}
+
+static void usage(const char *name) {
+	fprintf(stderr, "usage: %s [-m MODE] [-c CARRIER] [-r RATE] [-s CALLSIGN] [-n NOISE] [-x CHANNEL] [-p] [-f] [-j JOBS] INPUT_DIR OUTPUT_DIR\n", name);
+	fprintf(stderr, "payload files must not exceed %d bytes, -p turns off the fancy header\n", payload_size);
+	fprintf(stderr, "-x 0 writes mono, 1 and 2 the left or right channel of a stereo file, 4 the analytic signal as stereo\n");
+	fprintf(stderr, "-f writes 32 bit float instead of 16 bit samples\n");
+	fprintf(stderr, "-j threads are spread over the files first, the rest renders the payload symbols of each file\n");
+}
+
+int main(int argc, char **argv) {
+	Options options;
+	for (int opt; (opt = getopt(argc, argv, "m:c:r:s:n:x:pfj:")) != -1;) {
+		switch (opt) {
+			case 'm':
+				options.operation_mode = std::atoi(optarg);
+				break;
+			case 'c':
+				options.carrier_frequency = std::atoi(optarg);
+				break;
+			case 'r':
+				options.sample_rate = std::atoi(optarg);
+				break;
+			case 's':
+				options.call_sign = optarg;
+				break;
+			case 'n':
+				options.noise_symbols = std::atoi(optarg);
+				break;
+			case 'x':
+				options.channel_select = std::atoi(optarg);
+				break;
+			case 'p':
+				options.fancy_header = false;
+				break;
+			case 'f':
+				options.floating = true;
+				break;
+			case 'j':
+				options.jobs = std::atoi(optarg);
+				break;
+			default:
+				usage(argv[0]);
+				return 1;
+		}
+	}
+	bool channel_okay = options.channel_select == 0 || options.channel_select == 1 || options.channel_select == 2 || options.channel_select == 4;
+	if (argc - optind != 2 || options.operation_mode < 6 || options.operation_mode > 13 || !channel_okay || strlen(options.call_sign) > 9) {
+		usage(argv[0]);
+		return 1;
+	}
+	options.input = argv[optind];
+	options.output = argv[optind + 1];
+	std::unique_ptr<Interface> probe(create_encoder(options.sample_rate));
+	if (!probe) {
+		fprintf(stderr, "unsupported sample rate %d\n", options.sample_rate);
+		return 1;
+	}
+	std::vector<Job> jobs = list_jobs(options.input);
+	if (jobs.empty()) {
+		fprintf(stderr, "no payload files in %s\n", options.input.c_str());
+		return 1;
+	}
+	int cores = options.jobs > 0 ? options.jobs : std::thread::hardware_concurrency();
+	int threads = std::max(1, std::min<int>(cores, jobs.size()));
+	// cores not needed for whole files go to the payload symbols of each file
+	int helpers = std::max(1, cores / threads);
+	std::atomic<int> next{0};
+	std::mutex print;
+	auto worker = [&](Interface *encoder) {
+		encoder->parallel(helpers);
+		for (int i = next++; i < int(jobs.size()); i = next++) {
+			Job &job = jobs[i];
+			job.okay = options.floating ? render<float>(encoder, options, job) : render<int16_t>(encoder, options, job);
+			std::lock_guard<std::mutex> lock(print);
+			if (job.okay)
+				printf("%s: %ld symbols in %.1f ms, %.0f symbols/s\n", job.name.c_str(), job.symbols, 1000 * job.seconds, job.symbols / job.seconds);
+			else
+				fprintf(stderr, "%s: failed\n", job.name.c_str());
+		}
+		delete encoder;
+	};
+	auto start = std::chrono::steady_clock::now();
+	std::vector<std::thread> pool;
+	pool.emplace_back(worker, probe.release());
+	for (int t = 1; t < threads; ++t) {
+		Interface *encoder = create_encoder(options.sample_rate);
+		if (!encoder)
+			break;
+		pool.emplace_back(worker, encoder);
+	}
+	for (auto &thread: pool)
+		thread.join();
+	double seconds = std::chrono::duration<double>(std::chrono::steady_clock::now() - start).count();
+	long symbols = 0;
+	int failed = 0;
+	for (const Job &job: jobs) {
+		symbols += job.symbols;
+		failed += !job.okay;
+	}
+	printf("%d files with %d threads: %ld symbols in %.1f ms, %.0f symbols/s\n",
+		int(jobs.size()) - failed, int(pool.size()), symbols, 1000 * seconds, symbols / seconds);
+	for (int i = 0; i < Metrics::STAGES; ++i)
+		if (metrics.count(i))
+			printf("%s: %lld calls, %.1f us mean, %.1f us max\n", Metrics::name(i), metrics.count(i),
+				metrics.total(i) / (1e3 * metrics.count(i)), metrics.max(i) / 1e3);
+	return failed ? 2 : 0;
+}
@@ -0,0 +1,57 @@
+/*
+Lock-free single-producer single-consumer ring buffer
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <atomic>
+#include <algorithm>
+
+template<typename TYPE, int SIZE>
+class RingBuffer {
+	static_assert((SIZE & (SIZE - 1)) == 0, "SIZE must be a power of two");
+	static const unsigned MASK = SIZE - 1;
+	TYPE buffer[SIZE];
+	alignas(64) std::atomic<unsigned> head{0};
+	alignas(64) std::atomic<unsigned> tail{0};
+public:
+	static const int size = SIZE;
+
+	int readable() const {
+		return head.load(std::memory_order_acquire) - tail.load(std::memory_order_relaxed);
+	}
+
+	int writable() const {
+		return SIZE - (head.load(std::memory_order_relaxed) - tail.load(std::memory_order_acquire));
+	}
+
+	// only to be called from the producer
+	int write(const TYPE *data, int count) {
+		unsigned h = head.load(std::memory_order_relaxed);
+		count = std::min(count, SIZE - int(h - tail.load(std::memory_order_acquire)));
+		int first = std::min(count, int(SIZE - (h & MASK)));
+		std::copy(data, data + first, buffer + (h & MASK));
+		std::copy(data + first, data + count, buffer);
+		head.store(h + count, std::memory_order_release);
+		return count;
+	}
+
+	// only to be called from the consumer
+	int read(TYPE *data, int count) {
+		unsigned t = tail.load(std::memory_order_relaxed);
+		count = std::min(count, int(head.load(std::memory_order_acquire) - t));
+		int first = std::min(count, int(SIZE - (t & MASK)));
+		std::copy(buffer + (t & MASK), buffer + (t & MASK) + first, data);
+		std::copy(buffer, buffer + count - first, data + first);
+		tail.store(t + count, std::memory_order_release);
+		return count;
+	}
+
+	// neither producer nor consumer must be running
+	void reset() {
+		head.store(0, std::memory_order_relaxed);
+		tail.store(0, std::memory_order_relaxed);
+	}
+};
@@ -0,0 +1,53 @@
+/*
+RIFF WAVE header
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <cstdint>
+
+class WavHeader {
+	uint8_t bytes[44];
+
+	void le16(int pos, uint16_t v) {
+		bytes[pos] = v;
+		bytes[pos + 1] = v >> 8;
+	}
+
+	void le32(int pos, uint32_t v) {
+		le16(pos, v);
+		le16(pos + 2, v >> 16);
+	}
+
+	void tag(int pos, const char *str) {
+		for (int i = 0; i < 4; ++i)
+			bytes[pos + i] = str[i];
+	}
+
+public:
+	static const int size = 44;
+
+	WavHeader(int rate, int channels, int bits, int frames, bool floating = false) {
+		int block = channels * (bits / 8);
+		uint32_t data = uint32_t(frames) * block;
+		tag(0, "RIFF");
+		le32(4, 36 + data);
+		tag(8, "WAVE");
+		tag(12, "fmt ");
+		le32(16, 16);
+		le16(20, floating ? 3 : 1);
+		le16(22, channels);
+		le32(24, rate);
+		le32(28, rate * block);
+		le16(32, block);
+		le16(34, bits);
+		tag(36, "data");
+		le32(40, data);
+	}
+
+	const uint8_t *data() const {
+		return bytes;
+	}
+};
@@ -0,0 +1,249 @@
+/*
+Memory bounded LRU cache of rendered transmissions
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#pragma once
+
+#include <list>
+#include <mutex>
+#include <memory>
+#include <vector>
+#include <cstring>
+#include <algorithm>
+#include <type_traits>
+#include "encoder.hh"
+
+struct WaveformKey {
+	uint64_t payload_hash = 0;
+	int8_t call_sign[10] = {0};
+	int operation_mode = 0;
+	int sample_rate = 0;
+	int carrier_frequency = 0;
+	int noise_symbols = 0;
+	bool fancy_header = false;
+	int channel_select = 0;
+	bool float_samples = false;
+
+	bool operator==(const WaveformKey &other) const {
+		return payload_hash == other.payload_hash && !std::memcmp(call_sign, other.call_sign, sizeof(call_sign)) &&
+			operation_mode == other.operation_mode && sample_rate == other.sample_rate &&
+			carrier_frequency == other.carrier_frequency && noise_symbols == other.noise_symbols &&
+			fancy_header == other.fancy_header && channel_select == other.channel_select &&
+			float_samples == other.float_samples;
+	}
+};
+
+// the bytes of the samples exactly as they were produced, in the channel mode and sample type of the key
+typedef std::vector<uint8_t> Waveform;
+
+class WaveformCache {
+	typedef std::pair<WaveformKey, std::shared_ptr<const Waveform>> Entry;
+	std::mutex mutex;
+	std::list<Entry> entries;
+	size_t max_bytes = 0;
+	size_t used_bytes = 0;
+	long hit_count = 0;
+	long miss_count = 0;
+
+	static size_t bytes(const Waveform &waveform) {
+		return waveform.size();
+	}
+
+	void evict() {
+		while (used_bytes > max_bytes) {
+			used_bytes -= bytes(*entries.back().second);
+			entries.pop_back();
+		}
+	}
+
+public:
+	// zero disables the cache and drops everything
+	void limit(size_t max_bytes) {
+		std::lock_guard<std::mutex> lock(mutex);
+		this->max_bytes = max_bytes;
+		evict();
+	}
+
+	bool enabled() {
+		std::lock_guard<std::mutex> lock(mutex);
+		return max_bytes > 0;
+	}
+
+	std::shared_ptr<const Waveform> find(const WaveformKey &key) {
+		std::lock_guard<std::mutex> lock(mutex);
+		for (auto it = entries.begin(); it != entries.end(); ++it) {
+			if (it->first == key) {
+				entries.splice(entries.begin(), entries, it);
+				++hit_count;
+				return it->second;
+			}
+		}
+		++miss_count;
+		return nullptr;
+	}
+
+	void insert(const WaveformKey &key, std::shared_ptr<const Waveform> waveform) {
+		std::lock_guard<std::mutex> lock(mutex);
+		if (bytes(*waveform) > max_bytes)
+			return;
+		for (auto it = entries.begin(); it != entries.end(); ++it) {
+			if (it->first == key) {
+				used_bytes -= bytes(*it->second);
+				entries.erase(it);
+				break;
+			}
+		}
+		entries.emplace_front(key, std::move(waveform));
+		used_bytes += bytes(*entries.front().second);
+		evict();
+	}
+
+	size_t size() {
+		std::lock_guard<std::mutex> lock(mutex);
+		return used_bytes;
+	}
+
+	long hits() {
+		std::lock_guard<std::mutex> lock(mutex);
+		return hit_count;
+	}
+
+	long misses() {
+		std::lock_guard<std::mutex> lock(mutex);
+		return miss_count;
+	}
+};
+
+// replays transmissions from the cache and records the ones it has not seen yet
+class CachingEncoder : public Interface {
+	std::unique_ptr<Interface> encoder;
+	WaveformCache *cache;
+	WaveformKey key;
+	std::shared_ptr<const Waveform> replay;
+	std::shared_ptr<Waveform> recording;
+	// the output format is only known with the first produce, so configuring the encoder waits until then
+	uint8_t payload[5380];
+	int8_t call_sign[10];
+	bool has_payload = false;
+	bool pending = false;
+	bool configured = false;
+	int extended_length;
+	size_t position = 0;
+
+	static uint64_t fnv1a(const uint8_t *data, int size) {
+		uint64_t hash = 14695981039346656037ULL;
+		for (int i = 0; i < size; ++i) {
+			hash ^= data[i];
+			hash *= 1099511628211ULL;
+		}
+		return hash;
+	}
+
+	size_t symbol_bytes(int channel_select, bool float_samples) {
+		return (float_samples ? sizeof(float) : sizeof(int16_t)) * (channel_select ? 2 : 1) * extended_length;
+	}
+
+	void configure_encoder() {
+		if (configured)
+			return;
+		configured = true;
+		encoder->configure(has_payload ? payload : nullptr, call_sign, key.operation_mode, key.carrier_frequency, key.noise_symbols, key.fancy_header);
+	}
+
+	void start(int channel_select, bool float_samples) {
+		pending = false;
+		key.channel_select = channel_select;
+		key.float_samples = float_samples;
+		replay = cache->find(key);
+		if (replay)
+			return;
+		configure_encoder();
+		recording = std::make_shared<Waveform>();
+		recording->reserve(encoder->symbols() * symbol_bytes(channel_select, float_samples));
+	}
+
+	template<typename SAMPLE>
+	bool produce_symbol(SAMPLE *audio_buffer, int channel_select) {
+		bool float_samples = std::is_same<SAMPLE, float>::value;
+		if (pending)
+			start(channel_select, float_samples);
+		size_t bytes = symbol_bytes(channel_select, float_samples);
+		bool same = channel_select == key.channel_select && float_samples == key.float_samples;
+		if (replay) {
+			if (same && position < replay->size()) {
+				std::memcpy(audio_buffer, replay->data() + position, bytes);
+				position += bytes;
+				return true;
+			}
+			std::fill(audio_buffer, audio_buffer + (channel_select ? 2 : 1) * extended_length, 0);
+			return false;
+		}
+		// a transmission switching its format half way through is not worth keeping
+		if (!same)
+			recording = nullptr;
+		bool okay = encoder->produce(audio_buffer, channel_select);
+		if (!recording)
+			return okay;
+		if (okay) {
+			auto begin = reinterpret_cast<const uint8_t *>(audio_buffer);
+			recording->insert(recording->end(), begin, begin + bytes);
+		} else {
+			cache->insert(key, recording);
+			recording = nullptr;
+		}
+		return okay;
+	}
+
+public:
+	CachingEncoder(Interface *encoder, WaveformCache *cache) : encoder(encoder), cache(cache),
+		extended_length(((1280 * encoder->rate()) / 8000) * 9 / 8) {
+	}
+
+	int rate() final {
+		return encoder->rate();
+	}
+
+	int symbols() final {
+		if (replay)
+			return replay->size() / symbol_bytes(key.channel_select, key.float_samples);
+		configure_encoder();
+		return encoder->symbols();
+	}
+
+	void parallel(int threads) final {
+		encoder->parallel(threads);
+	}
+
+	void configure(const uint8_t *payload, const int8_t *call_sign, int operation_mode, int carrier_frequency, int noise_symbols, bool fancy_header) final {
+		replay = nullptr;
+		recording = nullptr;
+		position = 0;
+		key = WaveformKey();
+		has_payload = operation_mode;
+		if (has_payload)
+			std::memcpy(this->payload, payload, sizeof(this->payload));
+		std::fill(this->call_sign, this->call_sign + 10, 0);
+		for (int i = 0; i < 9 && call_sign[i]; ++i)
+			key.call_sign[i] = this->call_sign[i] = call_sign[i];
+		key.payload_hash = has_payload ? fnv1a(payload, sizeof(this->payload)) : 0;
+		key.operation_mode = operation_mode;
+		key.sample_rate = encoder->rate();
+		key.carrier_frequency = carrier_frequency;
+		key.noise_symbols = noise_symbols;
+		key.fancy_header = fancy_header;
+		configured = false;
+		pending = cache->enabled();
+		if (!pending)
+			configure_encoder();
+	}
+
+	bool produce(int16_t *audio_buffer, int channel_select) final {
+		return produce_symbol(audio_buffer, channel_select);
+	}
+
+	bool produce(float *audio_buffer, int channel_select) final {
+		return produce_symbol(audio_buffer, channel_select);
+	}
+};
@@ -0,0 +1,47 @@
+/*
+Pool of mutable bitmaps to decode into
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import android.graphics.Bitmap;
+
+import java.util.ArrayList;
+
+class BitmapPool {
+	private final ArrayList<Bitmap> bitmaps = new ArrayList<>();
+	private final int maxBitmaps;
+
+	BitmapPool(int maxBitmaps) {
+		this.maxBitmaps = maxBitmaps;
+	}
+
+	// smallest pooled bitmap large enough to hold width x height ARGB_8888 pixels
+	synchronized Bitmap get(int width, int height) {
+		long bytes = 4L * width * height;
+		Bitmap best = null;
+		for (Bitmap bitmap : bitmaps)
+			if (bitmap.getAllocationByteCount() >= bytes && (best == null || bitmap.getAllocationByteCount() < best.getAllocationByteCount()))
+				best = bitmap;
+		if (best != null)
+			bitmaps.remove(best);
+		return best;
+	}
+
+	synchronized void put(Bitmap bitmap) {
+		if (maxBitmaps == 0 || bitmap == null || !bitmap.isMutable() || bitmap.isRecycled() || bitmap.getConfig() != Bitmap.Config.ARGB_8888)
+			return;
+		if (bitmaps.contains(bitmap))
+			return;
+		bitmaps.add(bitmap);
+		if (bitmaps.size() > maxBitmaps) {
+			Bitmap smallest = bitmaps.get(0);
+			for (Bitmap other : bitmaps)
+				if (other.getAllocationByteCount() < smallest.getAllocationByteCount())
+					smallest = other;
+			bitmaps.remove(smallest);
+		}
+	}
+}
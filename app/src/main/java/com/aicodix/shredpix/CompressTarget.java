@@ -0,0 +1,113 @@
+/*
+Compress format together with the quality range to search
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+
+import com.aicodix.shredpix.codec.ImageCodec;
+
+import java.io.OutputStream;
+
+class CompressTarget implements ImageCodec<Bitmap> {
+	final String type;
+	final Bitmap.CompressFormat format;
+	final boolean lossy;
+	final int quality;
+	final int lowerQuality;
+	final int higherQuality;
+	final boolean bisect;
+
+	private CompressTarget(String type, Bitmap.CompressFormat format, boolean lossy, int quality, int higherQuality, boolean bisect) {
+		this.type = type;
+		this.format = format;
+		this.lossy = lossy;
+		this.quality = quality;
+		this.lowerQuality = 0;
+		this.higherQuality = higherQuality;
+		this.bisect = bisect;
+	}
+
+	@Override
+	public boolean compress(Bitmap bitmap, int quality, OutputStream stream) {
+		long begin = Metrics.begin(Metrics.COMPRESS);
+		try {
+			return bitmap.compress(format, quality, stream);
+		} finally {
+			Metrics.end(Metrics.COMPRESS, begin);
+		}
+	}
+
+	@Override
+	public int quality() {
+		return quality;
+	}
+
+	@Override
+	public int lowerQuality() {
+		return lowerQuality;
+	}
+
+	@Override
+	public int higherQuality() {
+		return higherQuality;
+	}
+
+	@Override
+	public boolean searchable() {
+		return bisect;
+	}
+
+	// the encode cache shares results between equal targets
+	@Override
+	public boolean equals(Object other) {
+		if (!(other instanceof CompressTarget))
+			return false;
+		CompressTarget target = (CompressTarget) other;
+		return format == target.format && lossy == target.lossy && quality == target.quality && higherQuality == target.higherQuality;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * format.ordinal() + (lossy ? 1 : 0);
+	}
+
+	static CompressTarget of(String type, boolean lossy) {
+		switch (type) {
+			case "JPEG":
+				return new CompressTarget(type, Bitmap.CompressFormat.JPEG, true, 0, 100, true);
+			case "PNG":
+				return new CompressTarget(type, Bitmap.CompressFormat.PNG, false, 0, 100, false);
+			case "WebP":
+				if (lossy) {
+					if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R)
+						return new CompressTarget(type, Bitmap.CompressFormat.WEBP_LOSSY, true, 0, 100, true);
+					if (Build.VERSION.SDK_INT == Build.VERSION_CODES.Q)
+						return new CompressTarget(type, Bitmap.CompressFormat.WEBP, true, 0, 99, true);
+					return new CompressTarget(type, Bitmap.CompressFormat.WEBP, true, 0, 100, true);
+				}
+				if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R)
+					return new CompressTarget(type, Bitmap.CompressFormat.WEBP_LOSSLESS, false, 0, 100, false);
+				if (Build.VERSION.SDK_INT == Build.VERSION_CODES.Q)
+					return new CompressTarget(type, Bitmap.CompressFormat.WEBP, false, 100, 100, false);
+				return null;
+		}
+		return null;
+	}
+
+	// candidates raced against each other in the automatic mode
+	static CompressTarget[] auto() {
+		CompressTarget[] targets = {of("JPEG", true), of("WebP", true), of("WebP", false)};
+		int count = 0;
+		for (CompressTarget target : targets)
+			if (target != null)
+				targets[count++] = target;
+		CompressTarget[] result = new CompressTarget[count];
+		System.arraycopy(targets, 0, result, 0, count);
+		return result;
+	}
+}
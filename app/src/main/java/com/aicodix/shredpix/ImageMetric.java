@@ -0,0 +1,50 @@
+/*
+Cheap objective image quality metric on downsampled proxies
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import android.graphics.Bitmap;
+
+class ImageMetric {
+	private final int width;
+	private final int height;
+	private final int[] reference;
+
+	ImageMetric(Bitmap bitmap, int pixelsMax) {
+		int w = bitmap.getWidth();
+		int h = bitmap.getHeight();
+		double scale = Math.min(1, Math.sqrt(pixelsMax / ((double) w * h)));
+		width = Math.max(1, (int) (w * scale));
+		height = Math.max(1, (int) (h * scale));
+		reference = proxy(bitmap);
+	}
+
+	private int[] proxy(Bitmap bitmap) {
+		Bitmap scaled = Bitmap.createScaledBitmap(bitmap, width, height, true);
+		int[] pixels = new int[width * height];
+		scaled.getPixels(pixels, 0, width, 0, 0, width, height);
+		if (scaled != bitmap)
+			scaled.recycle();
+		return pixels;
+	}
+
+	// peak signal to noise ratio in dB over the RGB channels, infinite if identical
+	double psnr(Bitmap bitmap) {
+		int[] pixels = proxy(bitmap);
+		long sum = 0;
+		for (int i = 0; i < reference.length; ++i) {
+			int a = reference[i], b = pixels[i];
+			int r = ((a >> 16) & 255) - ((b >> 16) & 255);
+			int g = ((a >> 8) & 255) - ((b >> 8) & 255);
+			int l = (a & 255) - (b & 255);
+			sum += r * r + g * g + l * l;
+		}
+		if (sum == 0)
+			return Double.POSITIVE_INFINITY;
+		double mse = sum / (3.0 * reference.length);
+		return 10 * Math.log10(255 * 255 / mse);
+	}
+}
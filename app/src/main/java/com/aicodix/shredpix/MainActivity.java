@@ -8,9 +8,11 @@ package com.aicodix.shredpix;
 
 import androidx.activity.EdgeToEdge;
 import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.app.AppCompatDelegate;
+import androidx.core.content.FileProvider;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
@@ -23,7 +25,7 @@ import android.content.res.Configuration;
 import android.database.Cursor;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
-import android.graphics.Matrix;
+import android.graphics.ImageDecoder;
 import android.media.AudioFormat;
 import android.media.AudioManager;
 import android.media.AudioTrack;
@@ -31,7 +33,10 @@ import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.Process;
+import android.os.SystemClock;
 import android.provider.MediaStore;
+import android.util.Log;
 import android.text.Editable;
 import android.text.InputType;
 import android.text.TextWatcher;
@@ -39,21 +44,32 @@ import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.widget.AdapterView;
 import android.widget.ArrayAdapter;
 import android.widget.CompoundButton;
 import android.widget.EditText;
 import android.widget.LinearLayout;
+import android.widget.ProgressBar;
 
+import com.aicodix.shredpix.codec.EncodeCache;
+import com.aicodix.shredpix.codec.Sizing;
 import com.aicodix.shredpix.databinding.ActivityMainBinding;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MainActivity extends AppCompatActivity {
 
@@ -62,11 +78,22 @@ public class MainActivity extends AppCompatActivity {
 		System.loadLibrary("shredpix");
 	}
 
+	private static final String TAG = "Shredpix";
+	// before API 24, loading this class is the closest to the process start there is
+	private static final long classLoaded = SystemClock.elapsedRealtime();
+	private static boolean coldStart = true;
 	private final int payloadSize = 5380;
+	private final long waveformCacheBytes = 64L << 20;
 	private boolean lossyCompression;
 	private boolean fancyHeader;
+	private int encoderRate;
+	private boolean encoderPending;
+	private int encoderGeneration;
+	private boolean metricsOverlay;
 	private boolean ultrasonicEnabled;
 	private int noiseSymbols;
+	private int repeatInterval;
+	private boolean repeating;
 	private int sampleRate;
 	private int channelSelect;
 	private int operationMode;
@@ -77,25 +104,46 @@ public class MainActivity extends AppCompatActivity {
 	private String imageFormat;
 	private String pixelCount;
 	private AudioTrack audioTrack;
-	private short[] audioBuffer;
+	private boolean floatOutput;
+	private ByteBuffer audioBuffer;
+	private ByteBuffer primeBuffer;
+	private final ByteBuffer payloadBuffer = ByteBuffer.allocateDirect(payloadSize);
 	private byte[] payload;
 	private boolean doRecode;
+	private boolean loading;
+	private int loadGeneration;
+	private boolean recoding;
+	private long launchStart;
+	private boolean launchReported;
 	private boolean encoderOkay;
+	private long encoder;
+	private boolean engineActive;
+	private long sendPressed;
+	private int underrunBase;
 	private boolean payloadOkay;
-	private int orientation;
 	private Bitmap sourceBitmap;
-	private Bitmap resizedBitmap;
 	private ActivityMainBinding binding;
 	private Handler handler;
 	private Menu menu;
+	private final ExecutorService recodeExecutor = Executors.newSingleThreadExecutor();
+	private final ExecutorService encoderExecutor = Executors.newSingleThreadExecutor();
+	private final AtomicInteger recodeGeneration = new AtomicInteger();
+	private final BitmapPool bitmapPool = new BitmapPool(Build.VERSION.SDK_INT < Build.VERSION_CODES.P ? 2 : 0);
+	private final EncodeCache encodeCache = new EncodeCache(32);
+	private final ExecutorService exportExecutor = Executors.newSingleThreadExecutor();
+	private final ExecutorService raceExecutor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+	private final ResolutionOptimizer resolutionOptimizer = new ResolutionOptimizer(new PayloadRace(raceExecutor, payloadSize, encodeCache), 2000000000L);
 
-	private native boolean createEncoder(int sampleRate);
+	private native boolean startEngine(long encoder, int channelSelect);
 
-	private native void configureEncoder(byte[] payload, byte[] callSign, int operationMode, int carrierFrequency, int noiseSymbols, boolean fancyHeader);
+	private native void stopEngine();
 
-	private native boolean produceEncoder(short[] audioBuffer, int channelSelect);
+	private native boolean engineRunning();
 
-	private native void destroyEncoder();
+	// monotonic nanoseconds like System.nanoTime(), zero until the sink got the first samples
+	private native long engineFirstSample();
+
+	private native int engineUnderruns();
 
 	private final AudioTrack.OnPlaybackPositionUpdateListener audioListener = new AudioTrack.OnPlaybackPositionUpdateListener() {
 		@Override
@@ -103,17 +151,124 @@ public class MainActivity extends AppCompatActivity {
 
 		}
 
+		// never blocks the main looper, what did not fit is written at the next notification
 		@Override
 		public void onPeriodicNotification(AudioTrack audioTrack) {
-			if (produceEncoder(audioBuffer, channelSelect)) {
-				audioTrack.write(audioBuffer, 0, audioBuffer.length);
+			while (true) {
+				if (!audioBuffer.hasRemaining()) {
+					audioBuffer.clear();
+					int bytes = produce(audioBuffer);
+					if (bytes <= 0) {
+						audioBuffer.limit(0);
+						audioTrack.stop();
+						Metrics.underruns(trackUnderruns() - underrunBase);
+						finishedSending();
+						return;
+					}
+					audioBuffer.limit(bytes);
+				}
+				int written = audioTrack.write(audioBuffer, audioBuffer.remaining(), AudioTrack.WRITE_NON_BLOCKING);
+				if (written <= 0 || audioBuffer.hasRemaining())
+					return;
+			}
+		}
+	};
+
+	private final Runnable pollEngine = new Runnable() {
+		@Override
+		public void run() {
+			if (!engineActive)
+				return;
+			long firstSample = sendPressed != 0 ? engineFirstSample() : 0;
+			if (firstSample != 0) {
+				Metrics.record(Metrics.FIRST_SAMPLE, firstSample - sendPressed);
+				sendPressed = 0;
+			}
+			if (engineRunning()) {
+				handler.postDelayed(pollEngine, 100);
 			} else {
-				audioTrack.stop();
+				Metrics.underruns(engineUnderruns());
+				stopEngine();
+				engineActive = false;
+				finishedSending();
+			}
+		}
+	};
+
+	private final Runnable updateOverlay = new Runnable() {
+		@Override
+		public void run() {
+			if (!metricsOverlay)
+				return;
+			binding.metrics.setText(Metrics.overlay());
+			handler.postDelayed(updateOverlay, 500);
+		}
+	};
+
+	private final Runnable repeatSending = new Runnable() {
+		@Override
+		public void run() {
+			if (!repeating)
+				return;
+			// an image shared in the meantime is only sent once it is ready
+			if (loading || recoding) {
+				handler.postDelayed(repeatSending, 100);
+				return;
+			}
+			if (!payloadOkay) {
+				repeating = false;
 				doneSending();
+				return;
 			}
+			configureEncoder();
+			startSending();
 		}
 	};
 
+	private boolean isSending() {
+		return repeating || engineActive || audioTrack.getPlayState() == AudioTrack.PLAYSTATE_PLAYING;
+	}
+
+	// the transmission ran to its end, send it again after the interval in the repeat mode
+	private void finishedSending() {
+		Log.d(TAG, String.format(Locale.US, "waveform cache %d KiB, hits %d misses %d",
+			NativeEncoder.cacheSize() >> 10, NativeEncoder.cacheHits(), NativeEncoder.cacheMisses()));
+		if (repeating) {
+			handler.postDelayed(repeatSending, 1000L * repeatInterval);
+			return;
+		}
+		doneSending();
+	}
+
+	private void stopSending() {
+		handler.removeCallbacks(repeatSending);
+		repeating = false;
+		sendPressed = 0;
+		if (engineActive) {
+			handler.removeCallbacks(pollEngine);
+			Metrics.underruns(engineUnderruns());
+			stopEngine();
+			engineActive = false;
+		} else {
+			audioTrack.stop();
+			Metrics.underruns(trackUnderruns() - underrunBase);
+		}
+		doneSending();
+	}
+
+	// the count of a track only ever grows, so sending remembers where it started
+	private int trackUnderruns() {
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N)
+			return 0;
+		return audioTrack.getUnderrunCount();
+	}
+
+	private int produce(ByteBuffer buffer) {
+		if (floatOutput)
+			return NativeEncoder.produceFloat(encoder, buffer, channelSelect);
+		return NativeEncoder.produce(encoder, buffer, channelSelect);
+	}
+
 	private void initAudioTrack() {
 		if (audioTrack != null) {
 			boolean rateChanged = audioTrack.getSampleRate() != sampleRate;
@@ -129,30 +284,165 @@ public class MainActivity extends AppCompatActivity {
 			channelCount = 2;
 			channelConfig = AudioFormat.CHANNEL_OUT_STEREO;
 		}
-		int audioFormat = AudioFormat.ENCODING_PCM_16BIT;
-		int sampleSize = 2;
 		int symbolLength = (1280 * sampleRate) / 8000;
 		int guardLength = symbolLength / 8;
 		int extendedLength = symbolLength + guardLength;
-		int bufferSize = 5 * extendedLength * sampleSize * channelCount;
-		audioTrack = new AudioTrack(AudioManager.STREAM_MUSIC, sampleRate, channelConfig, audioFormat, bufferSize, AudioTrack.MODE_STREAM);
-		audioBuffer = new short[extendedLength * channelCount];
+		// float spares the mixer a conversion, 16 bit is left for tracks that refuse it
+		floatOutput = true;
+		audioTrack = createAudioTrack(channelConfig, AudioFormat.ENCODING_PCM_FLOAT, 5 * extendedLength * 4 * channelCount);
+		if (audioTrack == null) {
+			floatOutput = false;
+			audioTrack = createAudioTrack(channelConfig, AudioFormat.ENCODING_PCM_16BIT, 5 * extendedLength * 2 * channelCount);
+		}
+		int sampleSize = floatOutput ? 4 : 2;
+		int symbolBytes = extendedLength * sampleSize * channelCount;
+		audioBuffer = ByteBuffer.allocateDirect(symbolBytes).order(ByteOrder.nativeOrder());
+		audioBuffer.limit(0);
+		primeBuffer = ByteBuffer.allocateDirect(5 * symbolBytes).order(ByteOrder.nativeOrder());
 		audioTrack.setPlaybackPositionUpdateListener(audioListener);
 		audioTrack.setPositionNotificationPeriod(extendedLength);
 	}
 
+	private AudioTrack createAudioTrack(int channelConfig, int audioFormat, int bufferSize) {
+		AudioTrack track;
+		try {
+			track = new AudioTrack(AudioManager.STREAM_MUSIC, sampleRate, channelConfig, audioFormat, bufferSize, AudioTrack.MODE_STREAM);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		if (track.getState() == AudioTrack.STATE_INITIALIZED)
+			return track;
+		track.release();
+		return null;
+	}
+
+	// the allocation and tables of an encoder take a while, so they are done off the main thread
 	private void initEncoder() {
-		encoderOkay = createEncoder(sampleRate);
+		if (encoderRate == sampleRate)
+			return;
+		NativeEncoder.destroy(encoder);
+		encoder = 0;
+		encoderOkay = false;
+		encoderPending = true;
+		encoderRate = sampleRate;
+		final int generation = ++encoderGeneration;
+		final int rate = sampleRate;
+		encoderExecutor.execute(() -> {
+			long begin = Metrics.begin(Metrics.CREATE_ENCODER);
+			final long created = NativeEncoder.create(rate, true);
+			Metrics.end(Metrics.CREATE_ENCODER, begin);
+			handler.post(() -> finishEncoder(generation, created));
+		});
+		updateEncodeButton();
+	}
+
+	private void finishEncoder(int generation, long created) {
+		if (generation != encoderGeneration || isDestroyed()) {
+			NativeEncoder.destroy(created);
+			return;
+		}
+		encoder = created;
+		encoderOkay = encoder != 0;
+		encoderPending = false;
+		updateEncodeButton();
+	}
+
+	// send is only enabled once the image is loaded, recoded and the encoder is ready
+	private void updateEncodeButton() {
+		if (menu == null || isSending())
+			return;
+		MenuItem item = menu.findItem(R.id.action_encode);
+		if (loading || recoding || encoderPending) {
+			item.setIcon(R.drawable.outline_sync_24);
+			item.setEnabled(false);
+			return;
+		}
 		int icon = R.drawable.outline_send_24;
 		if (!payloadOkay)
 			icon = R.drawable.outline_disc_full_24;
 		if (!encoderOkay)
 			icon = R.drawable.outline_error_outline_24;
-		menu.findItem(R.id.action_encode).setIcon(icon);
-		menu.findItem(R.id.action_encode).setEnabled(payloadOkay && encoderOkay);
+		item.setIcon(icon);
+		item.setEnabled(payloadOkay && encoderOkay);
+		if (payloadOkay && encoderOkay && !launchReported) {
+			launchReported = true;
+			recordLaunch(Metrics.READY_TO_SEND);
+			reportFullyDrawn();
+		}
+	}
+
+	private void recordLaunch(int stage) {
+		long millis = SystemClock.elapsedRealtime() - launchStart;
+		Metrics.record(stage, millis * 1000000L);
+		Log.d(TAG, String.format(Locale.US, "%s after %d ms", stage == Metrics.FIRST_FRAME ? "first frame" : "ready to send", millis));
 	}
 
-	private InputStream openStream(Intent intent) {
+	// what the recode executor hands back to the main thread, never changed after that
+	private static class Decoded {
+		final Bitmap bitmap;
+		final byte[] payload;
+		final boolean recode;
+
+		Decoded(Bitmap bitmap, byte[] payload, boolean recode) {
+			this.bitmap = bitmap;
+			this.payload = payload;
+			this.recode = recode;
+		}
+	}
+
+	// on the recode executor, so the recodings queued after it find the new source bitmap
+	private void startLoading(final Uri uri, final boolean fallback) {
+		final int generation = ++loadGeneration;
+		recodeExecutor.execute(() -> {
+			Decoded decoded = uri != null ? decodeUri(uri) : null;
+			if (decoded == null && fallback)
+				decoded = decodeDefault();
+			final Decoded result = decoded;
+			handler.post(() -> finishLoading(generation, result));
+		});
+	}
+
+	private Decoded decodeDefault() {
+		InputStream stream = getResources().openRawResource(R.raw.smpte_color_bars);
+		byte[] data = new byte[payloadSize];
+		try {
+			int size = stream.available();
+			if (size == 0 || size > payloadSize || size != stream.read(data, 0, size))
+				System.exit(0);
+			for (int i = size; i < payloadSize; ++i)
+				data[i] = 0;
+		} catch (IOException ignore) {
+			System.exit(0);
+		}
+		Bitmap bitmap = BitmapFactory.decodeByteArray(data, 0, data.length);
+		bitmap.setHasAlpha(false);
+		return new Decoded(bitmap, data, false);
+	}
+
+	private void finishLoading(int generation, Decoded decoded) {
+		if (generation != loadGeneration || isDestroyed() || decoded == null)
+			return;
+		cancelRecoding();
+		final Bitmap previous = sourceBitmap;
+		loading = false;
+		sourceBitmap = decoded.bitmap;
+		payload = decoded.payload;
+		binding.image.setImageBitmap(sourceBitmap);
+		enableRecoding(decoded.recode);
+		// only after the recodings still holding on to it are done, the cache knows bitmaps by identity and the pool reuses them
+		if (previous != null)
+			recodeExecutor.execute(() -> {
+				resolutionOptimizer.clear();
+				encodeCache.clear();
+				bitmapPool.put(previous);
+			});
+		if (!doRecode)
+			doneRecoding();
+		else if (menu != null)
+			startRecoding();
+	}
+
+	private Uri sharedImage(Intent intent) {
 		String action = intent.getAction();
 		if (action == null)
 			return null;
@@ -166,8 +456,10 @@ public class MainActivity extends AppCompatActivity {
 		Uri uri = intent.getData();
 		if (intent.hasExtra(Intent.EXTRA_STREAM))
 			uri = intent.getParcelableExtra(Intent.EXTRA_STREAM);
-		if (uri == null)
-			return null;
+		return uri;
+	}
+
+	private Decoded decodeUri(Uri uri) {
 		ContentResolver resolver = getContentResolver();
 		InputStream stream;
 		try {
@@ -175,7 +467,9 @@ public class MainActivity extends AppCompatActivity {
 		} catch (Exception ignore) {
 			return null;
 		}
-		orientation = 0;
+		if (stream == null)
+			return null;
+		int orientation = 0;
 		try {
 			Cursor cursor = resolver.query(uri, new String[]{MediaStore.Images.ImageColumns.ORIENTATION}, null, null, null);
 			if (cursor != null) {
@@ -185,21 +479,37 @@ public class MainActivity extends AppCompatActivity {
 			}
 		} catch (Exception ignore) {
 		}
-		return stream;
+		Decoded decoded = decodeStream(stream, uri, orientation);
+		try {
+			stream.close();
+		} catch (IOException ignore) {
+		}
+		return decoded;
+	}
+
+	private Decoded decodeStream(InputStream stream, Uri uri, int orientation) {
+		long begin = Metrics.begin(Metrics.DECODE);
+		try {
+			return decodeAndScale(stream, uri, orientation);
+		} finally {
+			Metrics.end(Metrics.DECODE, begin);
+		}
 	}
 
-	private Bitmap decodeStream(InputStream stream) {
+	// only touches its arguments, as it runs on the recode executor
+	private Decoded decodeAndScale(InputStream stream, Uri uri, int orientation) {
 		BitmapFactory.Options options = new BitmapFactory.Options();
 		options.inJustDecodeBounds = true;
 		boolean useStream = true;
+		byte[] data = null;
 		try {
 			int size = stream.available();
 			if (size > 0 && size <= payloadSize) {
-				payload = new byte[payloadSize];
-				if (size == stream.read(payload, 0, size)) {
+				data = new byte[payloadSize];
+				if (size == stream.read(data, 0, size)) {
 					for (int i = size; i < payloadSize; ++i)
-						payload[i] = 0;
-					BitmapFactory.decodeByteArray(payload, 0, payload.length, options);
+						data[i] = 0;
+					BitmapFactory.decodeByteArray(data, 0, data.length, options);
 					useStream = false;
 				} else {
 					return null;
@@ -230,17 +540,27 @@ public class MainActivity extends AppCompatActivity {
 		}
 		int maxLength = 1024;
 		boolean recode = Math.max(options.outWidth, options.outHeight) > maxLength;
-		if (recode) {
-			options.inSampleSize = 1;
-			while (Math.max(options.outWidth, options.outHeight) / options.inSampleSize > maxLength)
-				options.inSampleSize *= 2;
-		}
-		options.inJustDecodeBounds = false;
-		Bitmap bitmap;
-		if (useStream)
-			bitmap = BitmapFactory.decodeStream(stream, null, options);
-		else
-			bitmap = BitmapFactory.decodeByteArray(payload, 0, payload.length, options);
+		Bitmap bitmap = null;
+		boolean rotated = false;
+		if (recode && Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+			ImageDecoder.Source source;
+			if (useStream)
+				source = ImageDecoder.createSource(getContentResolver(), uri);
+			else
+				source = ImageDecoder.createSource(ByteBuffer.wrap(data));
+			bitmap = decodeImage(source, maxLength);
+			rotated = bitmap != null;
+		}
+		if (bitmap == null) {
+			// stay above the target size, the area averaging below does the rest
+			int sampleSize = recode ? Sizing.sampleSize(options.outWidth, options.outHeight, maxLength) : 1;
+			options.inSampleSize = sampleSize;
+			options.inJustDecodeBounds = false;
+			options.inMutable = true;
+			options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+			options.inBitmap = bitmapPool.get((options.outWidth + sampleSize - 1) / sampleSize, (options.outHeight + sampleSize - 1) / sampleSize);
+			bitmap = decodeBitmap(useStream ? stream : null, data, options);
+		}
 		if (bitmap == null)
 			return null;
 		if (!recode && useStream) {
@@ -248,10 +568,10 @@ public class MainActivity extends AppCompatActivity {
 				int size = stream.available();
 				if (size > 0 && size <= payloadSize) {
 					stream.reset();
-					payload = new byte[payloadSize];
-					if (size == stream.read(payload, 0, size)) {
+					data = new byte[payloadSize];
+					if (size == stream.read(data, 0, size)) {
 						for (int i = size; i < payloadSize; ++i)
-							payload[i] = 0;
+							data[i] = 0;
 					} else {
 						recode = true;
 					}
@@ -262,140 +582,91 @@ public class MainActivity extends AppCompatActivity {
 				recode = true;
 			}
 		}
-		enableRecoding(recode);
-		if (recode && orientation > 0) {
-			int width = bitmap.getWidth();
-			int height = bitmap.getHeight();
-			Matrix matrix = new Matrix();
-			matrix.postRotate(orientation);
-			bitmap = Bitmap.createBitmap(bitmap, 0, 0, width, height, matrix, true);
+		int width = Sizing.fit(bitmap.getWidth(), bitmap.getWidth(), bitmap.getHeight(), maxLength);
+		int height = Sizing.fit(bitmap.getHeight(), bitmap.getWidth(), bitmap.getHeight(), maxLength);
+		if (recode && !rotated && (orientation > 0 || width != bitmap.getWidth() || height != bitmap.getHeight())) {
+			if (orientation == 90 || orientation == 270) {
+				int tmp = width;
+				width = height;
+				height = tmp;
+			}
+			Bitmap decoded = bitmap;
+			bitmap = NativeBitmap.scale(decoded, width, height, orientation);
+			bitmapPool.put(decoded);
 		}
-		return bitmap;
+		bitmap.setHasAlpha(false);
+		return new Decoded(bitmap, data, recode);
 	}
 
-	private Bitmap resizeBitmap(Bitmap bitmap) {
-		int pixelsMax;
-		switch (pixelCount) {
+	// decodes straight to the target size and applies the EXIF orientation on the way
+	@RequiresApi(api = Build.VERSION_CODES.P)
+	private Bitmap decodeImage(ImageDecoder.Source source, int maxLength) {
+		try {
+			return ImageDecoder.decodeBitmap(source, (decoder, info, ignore) -> {
+				int width = info.getSize().getWidth();
+				int height = info.getSize().getHeight();
+				if (Math.max(width, height) > maxLength)
+					decoder.setTargetSize(Sizing.fit(width, width, height, maxLength), Sizing.fit(height, width, height, maxLength));
+				decoder.setAllocator(ImageDecoder.ALLOCATOR_SOFTWARE);
+			});
+		} catch (Exception ignore) {
+			return null;
+		}
+	}
+
+	private Bitmap decodeBitmap(InputStream stream, byte[] data, BitmapFactory.Options options) {
+		try {
+			if (stream != null)
+				return BitmapFactory.decodeStream(stream, null, options);
+			return BitmapFactory.decodeByteArray(data, 0, data.length, options);
+		} catch (IllegalArgumentException ignore) {
+		}
+		// the pooled bitmap did not fit after all
+		if (options.inBitmap == null)
+			return null;
+		bitmapPool.put(options.inBitmap);
+		options.inBitmap = null;
+		try {
+			if (stream != null)
+				stream.reset();
+		} catch (IOException ignore) {
+			return null;
+		}
+		return decodeBitmap(stream, data, options);
+	}
+
+	private int pixelsMax(String pixels) {
+		switch (pixels) {
 			case "1M":
-				pixelsMax = 1 << 20;
-				break;
+				return 1 << 20;
 			case "512K":
-				pixelsMax = 1 << 19;
-				break;
+				return 1 << 19;
 			case "256K":
-				pixelsMax = 1 << 18;
-				break;
+				return 1 << 18;
 			case "128K":
-				pixelsMax = 1 << 17;
-				break;
+				return 1 << 17;
 			case "64K":
-				pixelsMax = 1 << 16;
-				break;
+				return 1 << 16;
 			case "32K":
-				pixelsMax = 1 << 15;
-				break;
+				return 1 << 15;
 			case "16K":
-				pixelsMax = 1 << 14;
-				break;
-			default:
-				return null;
+				return 1 << 14;
 		}
-		int width = bitmap.getWidth();
-		int height = bitmap.getHeight();
-		while (width * height > pixelsMax) {
-			width /= 2;
-			height /= 2;
-		}
-		return Bitmap.createScaledBitmap(bitmap, width, height, true);
+		return 0;
 	}
 
-	private byte[] encodeBitmap(Bitmap bitmap) {
-		Bitmap.CompressFormat format;
-		boolean bisect = true;
-		int lowerQuality = 0;
-		int higherQuality = 100;
-		int quality = lowerQuality;
-		switch (imageFormat) {
-			case "JPEG":
-				format = Bitmap.CompressFormat.JPEG;
-				break;
-			case "PNG":
-				format = Bitmap.CompressFormat.PNG;
-				bisect = false;
-				break;
-			case "WebP":
-				format = Bitmap.CompressFormat.WEBP;
-				if (lossyCompression) {
-					if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R)
-						format = Bitmap.CompressFormat.WEBP_LOSSY;
-					else if (Build.VERSION.SDK_INT == Build.VERSION_CODES.Q)
-						higherQuality = 99;
-				} else {
-					if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R)
-						format = Bitmap.CompressFormat.WEBP_LOSSLESS;
-					else if (Build.VERSION.SDK_INT == Build.VERSION_CODES.Q)
-						quality = 100;
-					else
-						return null;
-					bisect = false;
-				}
-				break;
-			default:
-				return null;
-		}
-		ByteArrayOutputStream stream = new ByteArrayOutputStream(payloadSize);
-		if (!bitmap.compress(format, quality, stream))
-			return null;
-		if (bisect && stream.size() <= payloadSize) {
-			int testQuality = higherQuality;
-			ByteArrayOutputStream testStream = new ByteArrayOutputStream(payloadSize);
-			if (!bitmap.compress(format, testQuality, testStream))
-				return null;
-			if (testStream.size() <= payloadSize) {
-				stream = testStream;
-//				quality = testQuality;
-			} else {
-				for (testQuality = (lowerQuality + higherQuality + 1) / 2; testQuality != quality && testQuality != lowerQuality && testQuality != higherQuality; testQuality = (lowerQuality + higherQuality + 1) / 2) {
-					testStream = new ByteArrayOutputStream(payloadSize);
-					if (!bitmap.compress(format, testQuality, testStream))
-						return null;
-					if (testStream.size() > payloadSize) {
-						higherQuality = testQuality;
-						if (testStream.size() < stream.size()) {
-							stream = testStream;
-							quality = testQuality;
-						}
-					} else {
-						lowerQuality = testQuality;
-						if (testStream.size() > stream.size() || stream.size() > payloadSize) {
-							stream = testStream;
-							quality = testQuality;
-						}
-					}
-				}
-			}
-		}
-		while (stream.size() < payloadSize)
-			stream.write(0);
-		return stream.toByteArray();
+	private boolean recodingCancelled(int generation) {
+		return generation != recodeGeneration.get();
 	}
 
 	@Override
 	protected void onNewIntent(Intent intent) {
 		super.onNewIntent(intent);
-		InputStream stream = openStream(intent);
-		if (stream == null)
-			return;
-		Bitmap bitmap = decodeStream(stream);
-		if (bitmap == null)
+		Uri uri = sharedImage(intent);
+		if (uri == null)
 			return;
-		sourceBitmap = bitmap;
-		sourceBitmap.setHasAlpha(false);
-		binding.image.setImageBitmap(sourceBitmap);
-		if (doRecode) {
-			busyRecoding();
-			handler.postDelayed(finishCreate, 1000);
-		}
+		// still without a source, so this one has to fall back to the default if it fails
+		startLoading(uri, loading);
 	}
 
 	@Override
@@ -463,34 +734,55 @@ public class MainActivity extends AppCompatActivity {
 		}
 	};
 
-	private final Runnable finishFormat = new Runnable() {
-		@Override
-		public void run() {
-			payloadOkay = false;
-			if (resizedBitmap != null) {
-				payload = encodeBitmap(resizedBitmap);
-				if (payload != null) {
-					Bitmap bitmap = BitmapFactory.decodeByteArray(payload, 0, payload.length);
-					if (bitmap != null) {
-						bitmap.setHasAlpha(false);
-						binding.image.setImageBitmap(bitmap);
-						payloadOkay = payload.length <= payloadSize;
-					}
-				}
-			}
-			doneRecoding();
-		}
-	};
+	private void cancelRecoding() {
+		recodeGeneration.incrementAndGet();
+	}
+
+	private void startRecoding() {
+		busyRecoding();
+		final int generation = recodeGeneration.incrementAndGet();
+		final Bitmap source = sourceBitmap;
+		final int pixelsMax = pixelsMax(pixelCount);
+		final String type = imageFormat;
+		final boolean lossy = lossyCompression;
+		recodeExecutor.execute(() -> {
+			if (recodingCancelled(generation))
+				return;
+			CompressTarget target = CompressTarget.of(type, lossy);
+			CompressTarget[] targets = new CompressTarget[0];
+			if (type.equals("Auto"))
+				targets = CompressTarget.auto();
+			else if (target != null)
+				targets = new CompressTarget[]{target};
+			PayloadRace.Result result = null;
+			if (source != null && pixelsMax > 0 && targets.length > 0)
+				result = resolutionOptimizer.run(source, pixelsMax, targets, () -> recodingCancelled(generation));
+			if (result != null)
+				Log.d(TAG, String.format(Locale.US, "%s picked %dx%d %s %s at %.1f dB, cache hits %d misses %d",
+					type, result.bitmap.getWidth(), result.bitmap.getHeight(), result.target.type,
+					result.target.lossy ? "lossy" : "lossless", result.score, encodeCache.hits(), encodeCache.misses()));
+			final PayloadRace.Result finalResult = result;
+			handler.post(() -> finishRecoding(generation, finalResult));
+		});
+	}
+
+	private void finishRecoding(int generation, PayloadRace.Result result) {
+		if (recodingCancelled(generation))
+			return;
+		payload = result != null ? result.payload : null;
+		payloadOkay = result != null && result.payload.length <= payloadSize;
+		if (result != null)
+			binding.image.setImageBitmap(result.preview);
+		doneRecoding();
+	}
 
 	private final AdapterView.OnItemSelectedListener formatListener = new AdapterView.OnItemSelectedListener() {
 		@Override
 		public void onItemSelected(AdapterView<?> adapterView, View view, int i, long l) {
 			imageFormat = adapterView.getItemAtPosition(i).toString();
 			updateCompressionMethodButton(true);
-			if (doRecode) {
-				busyRecoding();
-				handler.post(finishFormat);
-			}
+			if (doRecode)
+				startRecoding();
 		}
 
 		@Override
@@ -503,32 +795,8 @@ public class MainActivity extends AppCompatActivity {
 		@Override
 		public void onCheckedChanged(@NonNull CompoundButton buttonView, boolean isChecked) {
 			lossyCompression = isChecked;
-			if (doRecode) {
-				busyRecoding();
-				handler.post(finishFormat);
-			}
-		}
-	};
-
-	private final Runnable finishPixels = new Runnable() {
-		@Override
-		public void run() {
-			resizedBitmap = resizeBitmap(sourceBitmap);
-			payloadOkay = false;
-			if (resizedBitmap != null) {
-				resizedBitmap.setHasAlpha(false);
-				binding.image.setImageBitmap(resizedBitmap);
-				payload = encodeBitmap(resizedBitmap);
-				if (payload != null) {
-					Bitmap bitmap = BitmapFactory.decodeByteArray(payload, 0, payload.length);
-					if (bitmap != null) {
-						bitmap.setHasAlpha(false);
-						binding.image.setImageBitmap(bitmap);
-						payloadOkay = payload.length <= payloadSize;
-					}
-				}
-			}
-			doneRecoding();
+			if (doRecode)
+				startRecoding();
 		}
 	};
 
@@ -536,10 +804,9 @@ public class MainActivity extends AppCompatActivity {
 		@Override
 		public void onItemSelected(AdapterView<?> adapterView, View view, int i, long l) {
 			pixelCount = adapterView.getItemAtPosition(i).toString();
-			if (doRecode) {
-				busyRecoding();
-				handler.post(finishPixels);
-			}
+			encodeCache.clear();
+			if (doRecode)
+				startRecoding();
 		}
 
 		@Override
@@ -598,30 +865,13 @@ public class MainActivity extends AppCompatActivity {
 	};
 
 	private void doneRecoding() {
-		binding.format.setEnabled(true);
-		binding.pixels.setEnabled(true);
-		binding.mode.setEnabled(true);
-		binding.carrier.setEnabled(true);
-		binding.call.setEnabled(true);
-		updateCompressionMethodButton(false);
-		int icon = R.drawable.outline_send_24;
-		if (!payloadOkay)
-			icon = R.drawable.outline_disc_full_24;
-		if (!encoderOkay)
-			icon = R.drawable.outline_error_outline_24;
-		menu.findItem(R.id.action_encode).setIcon(icon);
-		menu.findItem(R.id.action_encode).setEnabled(payloadOkay && encoderOkay);
+		recoding = false;
+		updateEncodeButton();
 	}
 
 	private void busyRecoding() {
-		binding.format.setEnabled(false);
-		binding.pixels.setEnabled(false);
-		binding.mode.setEnabled(false);
-		binding.carrier.setEnabled(false);
-		binding.call.setEnabled(false);
-		binding.lossy.setEnabled(false);
-		menu.findItem(R.id.action_encode).setIcon(R.drawable.outline_sync_24);
-		menu.findItem(R.id.action_encode).setEnabled(false);
+		recoding = true;
+		updateEncodeButton();
 	}
 
 	private void busySending() {
@@ -643,8 +893,7 @@ public class MainActivity extends AppCompatActivity {
 			binding.carrier.setEnabled(true);
 			binding.call.setEnabled(true);
 			updateCompressionMethodButton(false);
-			menu.findItem(R.id.action_encode).setIcon(R.drawable.outline_send_24);
-			menu.findItem(R.id.action_encode).setEnabled(true);
+			updateEncodeButton();
 		}, 1000);
 	}
 
@@ -667,11 +916,13 @@ public class MainActivity extends AppCompatActivity {
 		state.putInt("operationMode", operationMode);
 		state.putInt("carrierFrequency", carrierFrequency);
 		state.putInt("noiseSymbols", noiseSymbols);
+		state.putInt("repeatInterval", repeatInterval);
 		state.putString("callSign", callSign);
 		state.putString("imageFormat", imageFormat);
 		state.putString("pixelCount", pixelCount);
 		state.putBoolean("lossyCompression", lossyCompression);
 		state.putBoolean("fancyHeader", fancyHeader);
+		state.putBoolean("metricsOverlay", metricsOverlay);
 		super.onSaveInstanceState(state);
 	}
 
@@ -684,26 +935,39 @@ public class MainActivity extends AppCompatActivity {
 		edit.putInt("operationMode", operationMode);
 		edit.putInt("carrierFrequency", carrierFrequency);
 		edit.putInt("noiseSymbols", noiseSymbols);
+		edit.putInt("repeatInterval", repeatInterval);
 		edit.putString("callSign", callSign);
 		edit.putString("imageFormat", imageFormat);
 		edit.putString("pixelCount", pixelCount);
 		edit.putBoolean("lossyCompression", lossyCompression);
 		edit.putBoolean("fancyHeader", fancyHeader);
+		edit.putBoolean("metricsOverlay", metricsOverlay);
 		edit.apply();
 	}
 
 	@Override
 	protected void onCreate(Bundle state) {
+		// a cold start counts from the process start, a recreated activity from here
+		launchStart = SystemClock.elapsedRealtime();
+		if (coldStart) {
+			coldStart = false;
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N)
+				launchStart = Process.getStartElapsedRealtime();
+			else
+				launchStart = classLoaded;
+		}
 		final int defaultSampleRate = 8000;
 		final int defaultChannelSelect = 0;
 		final int defaultOperationMode = 11;
 		final int defaultCarrierFrequency = 1700;
 		final int defaultNoiseSymbols = 6;
+		final int defaultRepeatInterval = -1;
 		final String defaultCallSign = "ANONYMOUS";
 		final String defaultImageFormat = "WebP";
 		final String defaultPixelCount = "64K";
 		final boolean defaultLossyCompression = true;
 		final boolean defaultFancyHeader = true;
+		final boolean defaultMetricsOverlay = false;
 		if (state == null) {
 			SharedPreferences pref = getPreferences(Context.MODE_PRIVATE);
 			AppCompatDelegate.setDefaultNightMode(pref.getInt("nightMode", AppCompatDelegate.getDefaultNightMode()));
@@ -712,11 +976,13 @@ public class MainActivity extends AppCompatActivity {
 			operationMode = pref.getInt("operationMode", defaultOperationMode);
 			carrierFrequency = pref.getInt("carrierFrequency", defaultCarrierFrequency);
 			noiseSymbols = pref.getInt("noiseSymbols", defaultNoiseSymbols);
+			repeatInterval = pref.getInt("repeatInterval", defaultRepeatInterval);
 			callSign = pref.getString("callSign", defaultCallSign);
 			imageFormat = pref.getString("imageFormat", defaultImageFormat);
 			pixelCount = pref.getString("pixelCount", defaultPixelCount);
 			lossyCompression = pref.getBoolean("lossyCompression", defaultLossyCompression);
 			fancyHeader = pref.getBoolean("fancyHeader", defaultFancyHeader);
+			metricsOverlay = pref.getBoolean("metricsOverlay", defaultMetricsOverlay);
 		} else {
 			AppCompatDelegate.setDefaultNightMode(state.getInt("nightMode", AppCompatDelegate.getDefaultNightMode()));
 			sampleRate = state.getInt("sampleRate", defaultSampleRate);
@@ -724,13 +990,16 @@ public class MainActivity extends AppCompatActivity {
 			operationMode = state.getInt("operationMode", defaultOperationMode);
 			carrierFrequency = state.getInt("carrierFrequency", defaultCarrierFrequency);
 			noiseSymbols = state.getInt("noiseSymbols", defaultNoiseSymbols);
+			repeatInterval = state.getInt("repeatInterval", defaultRepeatInterval);
 			callSign = state.getString("callSign", defaultCallSign);
 			imageFormat = state.getString("imageFormat", defaultImageFormat);
 			pixelCount = state.getString("pixelCount", defaultPixelCount);
 			lossyCompression = state.getBoolean("lossyCompression", defaultLossyCompression);
 			fancyHeader = state.getBoolean("fancyHeader", defaultFancyHeader);
+			metricsOverlay = state.getBoolean("metricsOverlay", defaultMetricsOverlay);
 		}
 		ultrasonicEnabled = Math.abs(carrierFrequency) > 3000;
+		NativeEncoder.cacheLimit(repeatInterval < 0 ? 0 : waveformCacheBytes);
 		super.onCreate(state);
 		EdgeToEdge.enable(this);
 		binding = ActivityMainBinding.inflate(getLayoutInflater());
@@ -766,53 +1035,28 @@ public class MainActivity extends AppCompatActivity {
 
 		initAudioTrack();
 
-		InputStream stream = openStream(getIntent());
-		if (stream != null)
-			sourceBitmap = decodeStream(stream);
-		if (stream == null || sourceBitmap == null) {
-			stream = getResources().openRawResource(R.raw.smpte_color_bars);
-			payload = new byte[payloadSize];
-			try {
-				int size = stream.available();
-				if (size == 0 || size > payloadSize || size != stream.read(payload, 0, size))
-					System.exit(0);
-				for (int i = size; i < payloadSize; ++i)
-					payload[i] = 0;
-			} catch (IOException ignore) {
-				System.exit(0);
+		final View root = binding.getRoot();
+		root.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+			@Override
+			public boolean onPreDraw() {
+				root.getViewTreeObserver().removeOnPreDrawListener(this);
+				recordLaunch(Metrics.FIRST_FRAME);
+				return true;
 			}
-			enableRecoding(false);
-			sourceBitmap = BitmapFactory.decodeByteArray(payload, 0, payload.length);
-		}
-		sourceBitmap.setHasAlpha(false);
-		binding.image.setImageBitmap(sourceBitmap);
+		});
+
+		// the controls show up right away, the image and the encoder follow once they are ready
 		handler = new Handler(getMainLooper());
+		binding.format.setEnabled(false);
+		binding.pixels.setEnabled(false);
+		loading = true;
+		startLoading(sharedImage(getIntent()), true);
+		initEncoder();
+		showMetricsOverlay();
 	}
 
-	private final Runnable finishCreate = new Runnable() {
-		@Override
-		public void run() {
-			resizedBitmap = resizeBitmap(sourceBitmap);
-			payloadOkay = false;
-			if (resizedBitmap != null) {
-				resizedBitmap.setHasAlpha(false);
-				binding.image.setImageBitmap(resizedBitmap);
-				payload = encodeBitmap(resizedBitmap);
-				if (payload != null) {
-					Bitmap bitmap = BitmapFactory.decodeByteArray(payload, 0, payload.length);
-					if (bitmap != null) {
-						bitmap.setHasAlpha(false);
-						binding.image.setImageBitmap(bitmap);
-						payloadOkay = payload.length <= payloadSize;
-					}
-				}
-			}
-			doneRecoding();
-		}
-	};
-
 	private void setSampleRate(int newSampleRate) {
-		if (audioTrack.getPlayState() == AudioTrack.PLAYSTATE_PLAYING)
+		if (isSending())
 			return;
 		if (sampleRate == newSampleRate)
 			return;
@@ -873,6 +1117,40 @@ public class MainActivity extends AppCompatActivity {
 		}
 	}
 
+	// negative disables, zero repeats back to back, otherwise seconds between the transmissions
+	private void setRepeatInterval(int newRepeatInterval) {
+		if (repeatInterval == newRepeatInterval)
+			return;
+		repeatInterval = newRepeatInterval;
+		NativeEncoder.cacheLimit(repeatInterval < 0 ? 0 : waveformCacheBytes);
+		if (repeatInterval < 0 && repeating) {
+			// a running transmission ends on its own, a waiting one ends here
+			boolean waiting = !engineActive && audioTrack.getPlayState() != AudioTrack.PLAYSTATE_PLAYING;
+			handler.removeCallbacks(repeatSending);
+			repeating = false;
+			if (waiting)
+				doneSending();
+		}
+		updateRepeatMenu();
+	}
+
+	private void updateRepeatMenu() {
+		switch (repeatInterval) {
+			case -1:
+				menu.findItem(R.id.action_disable_repeat).setChecked(true);
+				break;
+			case 0:
+				menu.findItem(R.id.action_repeat_back_to_back).setChecked(true);
+				break;
+			case 60:
+				menu.findItem(R.id.action_repeat_every_minute).setChecked(true);
+				break;
+			case 300:
+				menu.findItem(R.id.action_repeat_every_five_minutes).setChecked(true);
+				break;
+		}
+	}
+
 	private void setFancyHeader(boolean newFancyHeader) {
 		if (fancyHeader == newFancyHeader)
 			return;
@@ -887,8 +1165,30 @@ public class MainActivity extends AppCompatActivity {
 			menu.findItem(R.id.action_disable_fancy_header).setChecked(true);
 	}
 
+	private void setMetricsOverlay(boolean newMetricsOverlay) {
+		if (metricsOverlay == newMetricsOverlay)
+			return;
+		metricsOverlay = newMetricsOverlay;
+		updateMetricsOverlayMenu();
+		showMetricsOverlay();
+	}
+
+	private void updateMetricsOverlayMenu() {
+		if (metricsOverlay)
+			menu.findItem(R.id.action_enable_metrics_overlay).setChecked(true);
+		else
+			menu.findItem(R.id.action_disable_metrics_overlay).setChecked(true);
+	}
+
+	private void showMetricsOverlay() {
+		handler.removeCallbacks(updateOverlay);
+		binding.metrics.setVisibility(metricsOverlay ? View.VISIBLE : View.GONE);
+		if (metricsOverlay)
+			updateOverlay.run();
+	}
+
 	private void setChannelSelect(int newChannelSelect) {
-		if (audioTrack.getPlayState() == AudioTrack.PLAYSTATE_PLAYING)
+		if (isSending())
 			return;
 		if (channelSelect == newChannelSelect)
 			return;
@@ -928,6 +1228,9 @@ public class MainActivity extends AppCompatActivity {
 				binding.lossy.setEnabled(false);
 				lossyCompression = false;
 				break;
+			case "Auto":
+				binding.lossy.setEnabled(false);
+				break;
 			case "WebP":
 				if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q)
 					lossyCompression = true;
@@ -944,15 +1247,15 @@ public class MainActivity extends AppCompatActivity {
 	public boolean onCreateOptionsMenu(Menu menu) {
 		getMenuInflater().inflate(R.menu.menu_main, menu);
 		this.menu = menu;
-		initEncoder();
+		updateEncodeButton();
 		updateSampleRateMenu();
 		updateChannelSelectMenu();
 		updateNoiseSymbolsMenu();
+		updateRepeatMenu();
 		updateFancyHeaderMenu();
-		if (doRecode) {
-			busyRecoding();
-			handler.postDelayed(finishCreate, 1000);
-		}
+		updateMetricsOverlayMenu();
+		if (doRecode)
+			startRecoding();
 		return true;
 	}
 
@@ -960,21 +1263,28 @@ public class MainActivity extends AppCompatActivity {
 	public boolean onOptionsItemSelected(MenuItem item) {
 		int id = item.getItemId();
 		if (id == R.id.action_ping) {
-			configureEncoder(null, callTerm(), 0, carrierFrequency, noiseSymbols, fancyHeader);
-			if (audioTrack.getPlayState() != AudioTrack.PLAYSTATE_PLAYING)
-				startSending();
+			if (isSending() || !encoderOkay)
+				return true;
+			sendPressed = System.nanoTime();
+			NativeEncoder.configure(encoder, null, callTerm(), 0, carrierFrequency, noiseSymbols, fancyHeader);
+			startSending();
 			return true;
 		}
 		if (id == R.id.action_encode) {
-			if (audioTrack.getPlayState() == AudioTrack.PLAYSTATE_PLAYING) {
-				audioTrack.stop();
-				doneSending();
+			if (isSending()) {
+				stopSending();
 			} else {
-				configureEncoder(payload, callTerm(), operationMode, carrierFrequency, noiseSymbols, fancyHeader);
+				sendPressed = System.nanoTime();
+				repeating = repeatInterval >= 0;
+				configureEncoder();
 				startSending();
 			}
 			return true;
 		}
+		if (id == R.id.action_export) {
+			exportAudio();
+			return true;
+		}
 		if (id == R.id.action_set_rate_8000) {
 			setSampleRate(8000);
 			return true;
@@ -1035,6 +1345,22 @@ public class MainActivity extends AppCompatActivity {
 			setNoiseSymbols(22);
 			return true;
 		}
+		if (id == R.id.action_disable_repeat) {
+			setRepeatInterval(-1);
+			return true;
+		}
+		if (id == R.id.action_repeat_back_to_back) {
+			setRepeatInterval(0);
+			return true;
+		}
+		if (id == R.id.action_repeat_every_minute) {
+			setRepeatInterval(60);
+			return true;
+		}
+		if (id == R.id.action_repeat_every_five_minutes) {
+			setRepeatInterval(300);
+			return true;
+		}
 		if (id == R.id.action_enable_fancy_header) {
 			setFancyHeader(true);
 			return true;
@@ -1043,6 +1369,22 @@ public class MainActivity extends AppCompatActivity {
 			setFancyHeader(false);
 			return true;
 		}
+		if (id == R.id.action_enable_metrics_overlay) {
+			setMetricsOverlay(true);
+			return true;
+		}
+		if (id == R.id.action_disable_metrics_overlay) {
+			setMetricsOverlay(false);
+			return true;
+		}
+		if (id == R.id.action_dump_metrics) {
+			dumpMetrics();
+			return true;
+		}
+		if (id == R.id.action_reset_metrics) {
+			Metrics.reset();
+			return true;
+		}
 		if (id == R.id.action_enable_night_mode) {
 			AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_YES);
 			return true;
@@ -1097,13 +1439,123 @@ public class MainActivity extends AppCompatActivity {
 			.show();
 	}
 
+	private void configureEncoder() {
+		payloadBuffer.clear();
+		payloadBuffer.put(payload, 0, payloadSize);
+		NativeEncoder.configure(encoder, payloadBuffer, callTerm(), operationMode, carrierFrequency, noiseSymbols, fancyHeader);
+	}
+
 	private void startSending() {
 		busySending();
-		for (int i = 0; i < 5; ++i) {
-			produceEncoder(audioBuffer, channelSelect);
-			audioTrack.write(audioBuffer, 0, audioBuffer.length);
+		if (startEngine(encoder, channelSelect)) {
+			engineActive = true;
+			handler.postDelayed(pollEngine, 100);
+			return;
 		}
+		underrunBase = trackUnderruns();
+		audioBuffer.limit(0);
+		primeBuffer.clear();
+		int bytes = produce(primeBuffer);
+		primeBuffer.limit(bytes);
+		audioTrack.write(primeBuffer, bytes, AudioTrack.WRITE_NON_BLOCKING);
 		audioTrack.play();
+		// as close to the first sample as the track lets us get
+		if (sendPressed != 0) {
+			Metrics.record(Metrics.FIRST_SAMPLE, System.nanoTime() - sendPressed);
+			sendPressed = 0;
+		}
+	}
+
+	private void dumpMetrics() {
+		String json = Metrics.json();
+		Log.d(TAG, json);
+		File file = new File(new File(getCacheDir(), "exports"), "metrics.json");
+		File dir = file.getParentFile();
+		if (dir == null || !(dir.isDirectory() || dir.mkdirs()))
+			return;
+		try (FileOutputStream stream = new FileOutputStream(file)) {
+			stream.write(json.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			Log.w(TAG, "metrics dump failed: " + e);
+			return;
+		}
+		Uri uri = FileProvider.getUriForFile(this, getPackageName() + ".fileprovider", file);
+		Intent intent = new Intent(Intent.ACTION_SEND);
+		intent.setType("application/json");
+		intent.putExtra(Intent.EXTRA_STREAM, uri);
+		intent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
+		startActivity(Intent.createChooser(intent, getString(R.string.dump_metrics)));
+	}
+
+	private void exportAudio() {
+		if (!payloadOkay || !encoderOkay)
+			return;
+		// the encoder tables and the polar encoding are too heavy for the main thread
+		final byte[] data = payload;
+		final byte[] call = callTerm();
+		final int rate = sampleRate;
+		final int mode = operationMode;
+		final int carrier = carrierFrequency;
+		final int noise = noiseSymbols;
+		final boolean fancy = fancyHeader;
+		final int channels = channelSelect;
+		final File file = new File(new File(getCacheDir(), "exports"), "shredpix.wav");
+		final AtomicBoolean cancel = new AtomicBoolean();
+		final ProgressBar progressBar = new ProgressBar(this, null, android.R.attr.progressBarStyleHorizontal);
+		int padding = (int) (24 * getResources().getDisplayMetrics().density);
+		progressBar.setPadding(padding, padding, padding, padding);
+		AlertDialog.Builder builder = new AlertDialog.Builder(this, R.style.Theme_AlertDialog);
+		builder.setTitle(R.string.export_audio)
+			.setView(progressBar)
+			.setCancelable(false)
+			.setNegativeButton(R.string.cancel, (dialog, which) -> cancel.set(true));
+		final AlertDialog dialog = builder.show();
+		exportExecutor.execute(() -> {
+			boolean okay = false;
+			long exporter = NativeEncoder.create(rate, false);
+			try {
+				File dir = file.getParentFile();
+				if (exporter != 0 && dir != null && (dir.isDirectory() || dir.mkdirs())) {
+					ByteBuffer buffer = ByteBuffer.allocateDirect(payloadSize);
+					buffer.put(data, 0, payloadSize);
+					NativeEncoder.parallel(exporter, Runtime.getRuntime().availableProcessors());
+					NativeEncoder.configure(exporter, buffer, call, mode, carrier, noise, fancy);
+					okay = WavExport.render(exporter, channels, file, new WavExport.Listener() {
+						@Override
+						public void progress(int symbols, int total) {
+							handler.post(() -> {
+								progressBar.setMax(total);
+								progressBar.setProgress(symbols);
+							});
+						}
+
+						@Override
+						public boolean cancelled() {
+							return cancel.get() || Thread.currentThread().isInterrupted();
+						}
+					});
+				}
+			} catch (Exception e) {
+				Log.w(TAG, "export failed: " + e);
+			}
+			NativeEncoder.destroy(exporter);
+			final boolean done = okay;
+			handler.post(() -> finishExport(dialog, done ? file : null));
+		});
+	}
+
+	private void finishExport(AlertDialog dialog, File file) {
+		if (isFinishing() || isDestroyed())
+			return;
+		dialog.dismiss();
+		if (file == null)
+			return;
+		Uri uri = FileProvider.getUriForFile(this, getPackageName() + ".fileprovider", file);
+		Intent intent = new Intent(Intent.ACTION_SEND);
+		intent.setType("audio/wav");
+		intent.putExtra(Intent.EXTRA_STREAM, uri);
+		intent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
+		startActivity(Intent.createChooser(intent, getString(R.string.export_audio)));
 	}
 
 	private void showTextPage(String title, String message) {
@@ -1122,8 +1574,20 @@ public class MainActivity extends AppCompatActivity {
 
 	@Override
 	protected void onDestroy() {
+		cancelRecoding();
+		recodeExecutor.shutdownNow();
+		encoderExecutor.shutdownNow();
+		exportExecutor.shutdownNow();
+		raceExecutor.shutdownNow();
+		handler.removeCallbacks(repeatSending);
+		handler.removeCallbacks(updateOverlay);
+		handler.removeCallbacks(pollEngine);
+		if (engineActive)
+			stopEngine();
+		engineActive = false;
 		audioTrack.stop();
-		destroyEncoder();
+		NativeEncoder.destroy(encoder);
+		encoder = 0;
 		super.onDestroy();
 	}
 }
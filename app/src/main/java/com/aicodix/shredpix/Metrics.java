@@ -0,0 +1,120 @@
+/*
+Stage timings of the Java and native pipeline with trace sections for Perfetto
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import android.os.Trace;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class Metrics {
+
+	static final int DECODE = 0;
+	static final int RESIZE = 1;
+	static final int COMPRESS = 2;
+	static final int FIRST_SAMPLE = 3;
+	static final int CREATE_ENCODER = 4;
+	// from the process start on a cold start, otherwise from the creation of the activity
+	static final int FIRST_FRAME = 5;
+	static final int READY_TO_SEND = 6;
+	private static final String[] names = {"decodeStream", "resizeBitmap", "compress", "firstSample", "createEncoder", "firstFrame", "readyToSend"};
+	// count, total and maximum nanoseconds of each stage
+	private static final AtomicLongArray stats = new AtomicLongArray(3 * names.length);
+	private static final AtomicLong underruns = new AtomicLong();
+
+	private interface Visitor {
+		void stage(String name, long count, long nanos, long maxNanos) throws JSONException;
+	}
+
+	private static native int nativeStages();
+
+	private static native String nativeName(int stage);
+
+	// count, total and maximum nanoseconds, the encoder stages of all instances together
+	private static native void nativeStats(int stage, long[] values);
+
+	private static native void nativeReset();
+
+	// begin and end must be on the same thread, as the trace sections have to nest
+	static long begin(int stage) {
+		Trace.beginSection(names[stage]);
+		return System.nanoTime();
+	}
+
+	static void end(int stage, long begin) {
+		record(stage, System.nanoTime() - begin);
+		Trace.endSection();
+	}
+
+	static void record(int stage, long nanos) {
+		stats.incrementAndGet(3 * stage);
+		stats.addAndGet(3 * stage + 1, nanos);
+		long max = stats.get(3 * stage + 2);
+		while (nanos > max && !stats.compareAndSet(3 * stage + 2, max, nanos))
+			max = stats.get(3 * stage + 2);
+	}
+
+	static void underruns(long count) {
+		if (count > 0)
+			underruns.addAndGet(count);
+	}
+
+	static void reset() {
+		for (int i = 0; i < stats.length(); ++i)
+			stats.set(i, 0);
+		underruns.set(0);
+		nativeReset();
+	}
+
+	private static void visit(Visitor visitor) throws JSONException {
+		for (int i = 0; i < names.length; ++i)
+			visitor.stage(names[i], stats.get(3 * i), stats.get(3 * i + 1), stats.get(3 * i + 2));
+		long[] values = new long[3];
+		for (int i = 0; i < nativeStages(); ++i) {
+			nativeStats(i, values);
+			visitor.stage(nativeName(i), values[0], values[1], values[2]);
+		}
+	}
+
+	static String json() {
+		try {
+			final JSONObject stages = new JSONObject();
+			visit((name, count, nanos, maxNanos) -> {
+				JSONObject stage = new JSONObject();
+				stage.put("count", count);
+				stage.put("totalMs", nanos / 1e6);
+				stage.put("meanMs", count > 0 ? nanos / (1e6 * count) : 0);
+				stage.put("maxMs", maxNanos / 1e6);
+				stages.put(name, stage);
+			});
+			JSONObject root = new JSONObject();
+			root.put("stages", stages);
+			root.put("underruns", underruns.get());
+			return root.toString(2);
+		} catch (JSONException e) {
+			return "{}";
+		}
+	}
+
+	static String overlay() {
+		final StringBuilder text = new StringBuilder();
+		text.append(String.format(Locale.US, "%-13s %6s %9s %9s\n", "ms", "count", "mean", "max"));
+		try {
+			visit((name, count, nanos, maxNanos) -> {
+				if (count > 0)
+					text.append(String.format(Locale.US, "%-13s %6d %9.3f %9.3f\n", name, count, nanos / (1e6 * count), maxNanos / 1e6));
+			});
+		} catch (JSONException ignore) {
+		}
+		text.append(String.format(Locale.US, "%-13s %6d", "underruns", underruns.get()));
+		return text.toString();
+	}
+}
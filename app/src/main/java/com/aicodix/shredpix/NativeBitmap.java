@@ -0,0 +1,39 @@
+/*
+Native area averaging downscaler for bitmaps
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import android.graphics.Bitmap;
+import android.graphics.Matrix;
+
+class NativeBitmap {
+
+	// RGBA_8888 only, target dimensions are after rotating clockwise by orientation degrees
+	static native boolean downscale(Bitmap source, Bitmap target, int orientation);
+
+	static Bitmap scale(Bitmap source, int width, int height, int orientation) {
+		long begin = Metrics.begin(Metrics.RESIZE);
+		try {
+			return resize(source, width, height, orientation);
+		} finally {
+			Metrics.end(Metrics.RESIZE, begin);
+		}
+	}
+
+	private static Bitmap resize(Bitmap source, int width, int height, int orientation) {
+		Bitmap target = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+		if (downscale(source, target, orientation))
+			return target;
+		target.recycle();
+		boolean swap = orientation == 90 || orientation == 270;
+		Bitmap scaled = Bitmap.createScaledBitmap(source, swap ? height : width, swap ? width : height, true);
+		if (orientation == 0)
+			return scaled;
+		Matrix matrix = new Matrix();
+		matrix.postRotate(orientation);
+		return Bitmap.createBitmap(scaled, 0, 0, scaled.getWidth(), scaled.getHeight(), matrix, true);
+	}
+}
@@ -0,0 +1,43 @@
+/*
+Handle based access to native encoder instances
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import java.nio.ByteBuffer;
+
+class NativeEncoder {
+
+	// opaque handle, zero if the sample rate is not supported, cached ones replay from and record into the waveform cache
+	static native long create(int sampleRate, boolean cached);
+
+	static native void configure(long handle, ByteBuffer payload, byte[] callSign, int operationMode, int carrierFrequency, int noiseSymbols, boolean fancyHeader);
+
+	// renders as many whole symbols of 16 bit samples as fit, returns the number of bytes written
+	static native int produce(long handle, ByteBuffer audioBuffer, int channelSelect);
+
+	// the same with float samples, which may go beyond full scale
+	static native int produceFloat(long handle, ByteBuffer audioBuffer, int channelSelect);
+
+	static native int rate(long handle);
+
+	// threads for the payload symbols of the following transmissions, only worth it for offline rendering
+	static native void parallel(long handle, int threads);
+
+	// total number of symbols the configured transmission consists of
+	static native int symbols(long handle);
+
+	// also stops the audio engine if it was driven by this instance
+	static native void destroy(long handle);
+
+	// bounds the cache of rendered transmissions shared by all instances, zero disables it
+	static native void cacheLimit(long maxBytes);
+
+	static native long cacheSize();
+
+	static native long cacheHits();
+
+	static native long cacheMisses();
+}
@@ -0,0 +1,116 @@
+/*
+Races the quality searches of several bitmaps and compress targets
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+
+import com.aicodix.shredpix.codec.EncodeCache;
+import com.aicodix.shredpix.codec.InterpolationSearch;
+import com.aicodix.shredpix.codec.PayloadEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class PayloadRace {
+
+	static class Result {
+		final Bitmap bitmap;
+		final CompressTarget target;
+		final byte[] payload;
+		final Bitmap preview;
+		final double score;
+
+		private Result(Bitmap bitmap, CompressTarget target, byte[] payload, Bitmap preview, double score) {
+			this.bitmap = bitmap;
+			this.target = target;
+			this.payload = payload;
+			this.preview = preview;
+			this.score = score;
+		}
+	}
+
+	private static final String TAG = "Shredpix";
+	private final ExecutorService executor;
+	private final ThreadLocal<PayloadEncoder<Bitmap>> encoders;
+
+	PayloadRace(ExecutorService executor, final int payloadSize, final EncodeCache cache) {
+		this.executor = executor;
+		encoders = new ThreadLocal<PayloadEncoder<Bitmap>>() {
+			@Override
+			protected PayloadEncoder<Bitmap> initialValue() {
+				return new PayloadEncoder<>(payloadSize, cache, new InterpolationSearch());
+			}
+		};
+	}
+
+	// the first bitmap is always searched to the end, the others only until the deadline
+	Result run(Bitmap[] bitmaps, CompressTarget[] targets, final ImageMetric metric, final PayloadEncoder.Cancellation cancellation, final long deadline) {
+		final AtomicBoolean dominated = new AtomicBoolean();
+		final PayloadEncoder.Cancellation lost = () -> dominated.get() || cancellation.cancelled();
+		final PayloadEncoder.Cancellation late = () -> lost.cancelled() || System.nanoTime() > deadline;
+		List<Future<Result>> futures = new ArrayList<>();
+		for (int i = 0; i < bitmaps.length; ++i) {
+			final Bitmap bitmap = bitmaps[i];
+			final PayloadEncoder.Cancellation stop = i == 0 ? lost : late;
+			for (final CompressTarget target : targets) {
+				Callable<Result> task = new Callable<Result>() {
+					@Override
+					public Result call() {
+						if (stop.cancelled())
+							return null;
+						PayloadEncoder<Bitmap> encoder = encoders.get();
+						byte[] payload = encoder.encode(bitmap, target, stop);
+						if (payload == null)
+							return null;
+						Bitmap preview = BitmapFactory.decodeByteArray(payload, 0, payload.length);
+						if (preview == null)
+							return null;
+						preview.setHasAlpha(false);
+						double score = metric.psnr(preview);
+						Log.d(TAG, String.format(Locale.US, "%dx%d %s %s: %d compress calls in %.1f ms, %.1f dB",
+							bitmap.getWidth(), bitmap.getHeight(), target.type, target.lossy ? "lossy" : "lossless",
+							encoder.compressCalls(), encoder.searchNanos() / 1e6, score));
+						// nothing can beat a perfect reconstruction
+						if (Double.isInfinite(score))
+							dominated.set(true);
+						return new Result(bitmap, target, payload, preview, score);
+					}
+				};
+				try {
+					futures.add(executor.submit(task));
+				} catch (RejectedExecutionException ignore) {
+					// the executor only shuts down with the activity, so this is as good as cancelled
+					for (Future<Result> future : futures)
+						future.cancel(true);
+					return null;
+				}
+			}
+		}
+		Result best = null;
+		for (Future<Result> future : futures) {
+			Result result;
+			try {
+				result = future.get();
+			} catch (Exception ignore) {
+				result = null;
+			}
+			if (result != null && (best == null || result.score > best.score))
+				best = result;
+		}
+		if (cancellation.cancelled())
+			return null;
+		return best;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+Joint search over resolution and quality below a pixel budget
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import android.graphics.Bitmap;
+
+import com.aicodix.shredpix.codec.PayloadEncoder;
+import com.aicodix.shredpix.codec.Sizing;
+
+import java.util.ArrayList;
+
+class ResolutionOptimizer {
+	private static final int metricPixels = 1 << 16;
+	private final PayloadRace race;
+	private final long budgetNanos;
+	private final ArrayList<Bitmap> intermediates = new ArrayList<>();
+	private Bitmap source;
+	private int pixelsMax;
+	private Bitmap[] candidates;
+	private ImageMetric metric;
+
+	ResolutionOptimizer(PayloadRace race, long budgetNanos) {
+		this.race = race;
+		this.budgetNanos = budgetNanos;
+	}
+
+	PayloadRace.Result run(Bitmap source, int pixelsMax, CompressTarget[] targets, PayloadEncoder.Cancellation cancellation) {
+		long deadline = System.nanoTime() + budgetNanos;
+		if (source != this.source || pixelsMax != this.pixelsMax)
+			prepare(source, pixelsMax);
+		if (candidates.length == 0 || cancellation.cancelled())
+			return null;
+		return race.run(candidates, targets, metric, cancellation, deadline);
+	}
+
+	// forget the source and everything derived from it, its pixels might get reused
+	void clear() {
+		source = null;
+		pixelsMax = 0;
+		candidates = null;
+		metric = null;
+		intermediates.clear();
+	}
+
+	private void prepare(Bitmap source, int pixelsMax) {
+		this.source = source;
+		this.pixelsMax = pixelsMax;
+		intermediates.clear();
+		intermediates.add(source);
+		int[] sizes = Sizing.candidates(source.getWidth(), source.getHeight(), pixelsMax);
+		candidates = new Bitmap[sizes.length / 2];
+		for (int i = 0; i < candidates.length; ++i) {
+			candidates[i] = scale(sizes[2 * i], sizes[2 * i + 1]);
+			candidates[i].setHasAlpha(false);
+		}
+		metric = candidates.length > 0 ? new ImageMetric(candidates[0], metricPixels) : null;
+	}
+
+	// scale down from the smallest intermediate that is still at least twice as large
+	private Bitmap scale(int width, int height) {
+		Bitmap base = intermediates.get(0);
+		for (Bitmap bitmap : intermediates)
+			if (bitmap.getWidth() >= 2 * width && bitmap.getHeight() >= 2 * height)
+				base = bitmap;
+		while (base.getWidth() >= 4 * width && base.getHeight() >= 4 * height) {
+			base = NativeBitmap.scale(base, base.getWidth() / 2, base.getHeight() / 2, 0);
+			intermediates.add(base);
+		}
+		if (base.getWidth() == width && base.getHeight() == height)
+			return base;
+		return NativeBitmap.scale(base, width, height, 0);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+Renders a configured transmission straight into a WAV file
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+class WavExport {
+
+	interface Listener {
+		void progress(int symbols, int total);
+
+		boolean cancelled();
+	}
+
+	private static final int chunkSymbols = 16;
+	private static final int headerSize = 44;
+
+	static ByteBuffer header(int rate, int channels, long dataBytes) {
+		ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+		int block = channels * 2;
+		header.put(new byte[]{'R', 'I', 'F', 'F'});
+		header.putInt((int) (36 + dataBytes));
+		header.put(new byte[]{'W', 'A', 'V', 'E', 'f', 'm', 't', ' '});
+		header.putInt(16);
+		header.putShort((short) 1);
+		header.putShort((short) channels);
+		header.putInt(rate);
+		header.putInt(rate * block);
+		header.putShort((short) block);
+		header.putShort((short) 16);
+		header.put(new byte[]{'d', 'a', 't', 'a'});
+		header.putInt((int) dataBytes);
+		header.flip();
+		return header;
+	}
+
+	// returns false if cancelled, leaving an incomplete file behind
+	static boolean render(long encoder, int channelSelect, File file, Listener listener) throws IOException {
+		int rate = NativeEncoder.rate(encoder);
+		int channels = channelSelect == 0 ? 1 : 2;
+		int symbolBytes = ((1280 * rate) / 8000) * 9 / 8 * channels * 2;
+		int total = NativeEncoder.symbols(encoder);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(chunkSymbols * symbolBytes).order(ByteOrder.nativeOrder());
+		try (FileChannel channel = new FileOutputStream(file).getChannel()) {
+			channel.write(header(rate, channels, 0));
+			long dataBytes = 0;
+			while (true) {
+				if (listener.cancelled())
+					return false;
+				buffer.clear();
+				int bytes = NativeEncoder.produce(encoder, buffer, channelSelect);
+				buffer.limit(bytes);
+				while (buffer.hasRemaining())
+					channel.write(buffer);
+				dataBytes += bytes;
+				listener.progress((int) (dataBytes / symbolBytes), total);
+				if (bytes < buffer.capacity())
+					break;
+			}
+			ByteBuffer header = header(rate, channels, dataBytes);
+			while (header.hasRemaining())
+				channel.write(header, header.position());
+		}
+		return true;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+Host test of the downscaler, its rotations and its averaging in linear light
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#include <vector>
+#include <cstdio>
+#include <cstdint>
+#include "downscale.hh"
+
+static int failures = 0;
+
+static void check(bool okay, const char *what, int value) {
+	if (!okay) {
+		fprintf(stderr, "FAILED: %s %d\n", what, value);
+		++failures;
+	}
+}
+
+struct Image {
+	int width, height, stride;
+	std::vector<uint8_t> pixels;
+
+	// padding at the end of each row, so that the strides are not just four times the width
+	Image(int width, int height) : width(width), height(height), stride(4 * width + 12), pixels(size_t(stride) * height) {}
+
+	uint8_t *operator()(int x, int y) {
+		return pixels.data() + size_t(y) * stride + 4 * x;
+	}
+};
+
+// every pixel different, and every value one that survives the trip through linear light
+static Image pattern(int width, int height) {
+	Image image(width, height);
+	for (int y = 0; y < height; ++y) {
+		for (int x = 0; x < width; ++x) {
+			uint8_t *pixel = image(x, y);
+			pixel[0] = 10 * x + 1;
+			pixel[1] = 10 * y + 2;
+			pixel[2] = 200 - 10 * x - y;
+			pixel[3] = 255;
+		}
+	}
+	return image;
+}
+
+// same size, so only the rotation remains, clockwise by orientation degrees
+static void test_rotation(int orientation, int threads) {
+	Image input = pattern(5, 3);
+	bool turned = orientation == 90 || orientation == 270;
+	Image output(turned ? 3 : 5, turned ? 5 : 3);
+	Downscale downscale;
+	bool okay = downscale(output.pixels.data(), output.width, output.height, output.stride,
+		input.pixels.data(), input.width, input.height, input.stride, orientation, threads);
+	check(okay, "rotation accepted", orientation);
+	bool same = true;
+	for (int y = 0; y < output.height; ++y) {
+		for (int x = 0; x < output.width; ++x) {
+			int sx = x, sy = y;
+			switch (orientation) {
+				case 90:
+					sx = y;
+					sy = input.height - 1 - x;
+					break;
+				case 180:
+					sx = input.width - 1 - x;
+					sy = input.height - 1 - y;
+					break;
+				case 270:
+					sx = input.width - 1 - y;
+					sy = x;
+					break;
+			}
+			for (int c = 0; c < 4; ++c)
+				same = same && output(x, y)[c] == input(sx, sy)[c];
+		}
+	}
+	check(same, "pixels rotated by", orientation);
+}
+
+// averaging black and white in linear light gives half the light, which is 188 and not 128 in sRGB
+static void test_checkerboard(int orientation) {
+	Image input(16, 8);
+	for (int y = 0; y < input.height; ++y) {
+		for (int x = 0; x < input.width; ++x) {
+			uint8_t value = (x + y) % 2 ? 255 : 0;
+			uint8_t *pixel = input(x, y);
+			pixel[0] = pixel[1] = pixel[2] = value;
+			pixel[3] = 255;
+		}
+	}
+	bool turned = orientation == 90 || orientation == 270;
+	Image output(turned ? 4 : 8, turned ? 8 : 4);
+	Downscale downscale;
+	bool okay = downscale(output.pixels.data(), output.width, output.height, output.stride,
+		input.pixels.data(), input.width, input.height, input.stride, orientation, 2);
+	check(okay, "checkerboard accepted", orientation);
+	bool gray = true;
+	for (int y = 0; y < output.height; ++y) {
+		for (int x = 0; x < output.width; ++x) {
+			uint8_t *pixel = output(x, y);
+			gray = gray && pixel[0] == 188 && pixel[1] == 188 && pixel[2] == 188 && pixel[3] == 255;
+		}
+	}
+	check(gray, "checkerboard averages to 188 when rotated by", orientation);
+}
+
+static void test_invalid() {
+	Image input = pattern(4, 4), output(2, 2);
+	Downscale downscale;
+	check(!downscale(output.pixels.data(), 2, 2, output.stride, input.pixels.data(), 4, 4, input.stride, 45), "odd orientation rejected", 45);
+	check(!downscale(output.pixels.data(), 0, 2, output.stride, input.pixels.data(), 4, 4, input.stride), "empty output rejected", 0);
+}
+
+int main() {
+	for (int orientation: {0, 90, 180, 270}) {
+		test_rotation(orientation, 1);
+		test_rotation(orientation, 3);
+		test_checkerboard(orientation);
+	}
+	test_invalid();
+	if (failures)
+		fprintf(stderr, "%d checks failed\n", failures);
+	else
+		printf("all checks passed\n");
+	return failures ? 1 : 0;
+}
@@ -0,0 +1,900 @@
+// generated by shredpix-encoder-test -g
+
+static const int16_t reference_8000_6[] = {
+	0, 0, -1, 0, -2, 3, -13, 0, 393, 3704, -6363, -235, -1452, -8221, 8529, -4398,
+	4139, 1174, 892, 1393, 2633, 50, 3629, 5606, 18044, -3680, 3469, 9340, -1471, -4350, 12428, -694,
+	-754, 5705, -6172, 302, 1008, -6743, 7370, 1297, 9073, 587, 1762, 3011, 3680, 4148, -5393, 4804,
+	-5732, -774, -6750, -3752, -2111, -8278, 2648, -5780, 2807, -18077, 6947, 2438, -8058, -2851, 2001, -12736,
+	9090, -7370, 12213, 5101, 2099, 14752, -13866, 7913, -3130, -4255, 2911, -4346, 1593, 3607, -7040, 902,
+	-4430, 9329, -2606, -5494, 8744, 824, -70, 8384, 6463, 9501, -10577, 14179, -14507, -5443, 2991, -6582,
+	6853, 4566, 2764, 530, 6919, 6884, -6025, 12597, 10244, -1892, 9066, 2553, 7979, 9494, -3365, 14385,
+	-1043, 1595, 1447, 121, -557, 2754, -2625, -2541, 12745, -9900, 10341, 12397, -10757, 8073, -4871, -6128,
+	1243, 1531, 2968, -2612, 3666, 7091, -10899, 2124, -1696, -4771, 6762, -4223, 5324, 1307, 6692, 2205,
+	-4791, -956, 2515, -3077, 3226, 2860, -1326, 5544, 4921, 1421, 835, 8057, -6061, 3448, -2639, -840,
+	10227, -1909, 5348, 2471, 3535, 5302, -3713, 5107, -24384, 2944, -1157, -17924, 8076, 4279, -11617, 327,
+	2321, -14494, 6184, -2394, 523, -4736, 9362, -5076, 12969, -2704, 9503, 8866, 1831, 11040, -6710, 13876,
+	-4439, -2175, 9463, -10761, 13163, 12147, -10134, 9104, -401, 1608, 3956, 554, 3620, 9739, -10936, 8926,
+	-1224, -10037, 17225, -5113, 10139, 19408, -17507, 10970, 12506, 2515, 3396, 4431, 4148, 6566, -5215, 5499,
+	-6014, 1236, -4037, 4895, -11727, 2398, -9741, -7366, -14396, -6272, 6589, -16492, 14394, 2740, 2533, 9593,
+	8181, -1926, 3646, 1976, 8503, -840, 8150, 12596, 1416, -6454, 2925, 105, -2174, -4388, 8683, -5690,
+	-3648, 12764, -10839, 1449, -4746, -5917, 573, -7824, -8048, 4176, -4690, -5342, 2108, -4628, 2954, -637,
+	8076, -769, 3082, 10973, -8511, 5670, -4482, -3447, -1240, 3719, -9869, -7100, 8974, -12870, 8548, 7893,
+	-9939, 5851, 442, -5148, 1674, 2209, -63, -3577, 16057, -2773, 2669, 17595, -15280, 145, 3316, -14274,
+	1900, -739, -5263, -3970, 2930, -7728, 4099, -1028, 13261, -3589, 4345, 5931, -1439, -1254, 4972, -3526,
+	-9657, 2004, 1383, -14707, 12834, 3266, -5789, 7413, -6167, -2532, 2969, -10519, 10927, 4446, -6430, 8668,
+	6689, -11412, 10168, 12103, -11602, 10678, -9101, -4220, -6518, -25720, 22764, -8556, 6229, 12878, -299, 2311,
+	-3933, -886, -2576, -8436, 6069, 300, -7608, 1586, 4004, 82, 2372, 712, 1258, 5561, -9349, 2075,
+	2166, 4187, -236, 10078, -11668, 5193, -6528, -7746, -2187, 5970, -8087, 680, -2422, -6062, 2116, -1091,
+	-22444, -2086, 575, -23809, 19181, -2853, 5263, 11766, 4413, 3693, 1233, 2371, 2877, -4062, 16545, 3183,
+	-11299, -6987, 2654, -14833, 11382, -2026, 3497, 5214, -1810, 5500, 3071, -792, 26, 9583, -13050, -1072,
+	-10483, 16004, -8260, -6170, 3069, 3468, -11087, 4540, 11219, 6964, -696, 12953, -9340, 6526, -8394, -2527,
+	0, 0, 0, 0, 0, 0, 0, 0, -2811, 10755, -11452, -1791, 1104, -11185, 10586, 1283,
+	24338, -4812, 9361, 19839, -13099, 11034, -9483, -6193, 2635, -3173, 4326, 3503, -4419, 6283, -8893, -4672,
+	4162, -14278, 13539, 318, 2755, 11126, -7879, 4354, -8850, -6092, -2392, -10847, 7080, -10583, 14792, -744,
+	3663, 4222, -1816, 6343, -7223, 1087, -3365, -6425, 5648, -3898, 5484, 2756, 1127, 4769, -1973, 4298,
+	-18325, -2293, -3675, -18725, 15738, -8006, 9465, 10988, 1426, -747, 973, 1061, 11, 645, 511, 1204,
+	10440, 10895, -10476, 11647, -11509, -9100, 7328, -9742, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_8000_7[] = {
+	0, 0, -1, 1, -2, 0, -10, 2, -3363, 1932, -8267, -3488, -213, -11456, 9392, -4946,
+	-1125, -8254, 3312, -1072, -324, -704, 2793, -1693, -14532, -10525, 4427, -9208, -1628, 3212, -7307, -9834,
+	3537, 4194, -3284, 4490, -4338, -4759, 6184, -4791, -10846, 19711, -22394, -6637, -834, -17155, 5535, -8086,
+	2319, 7164, -8606, -770, 3437, -8827, 7396, 3359, 343, -6102, 3636, -2990, 6119, -352, 2079, 6946,
+	-6445, 8059, -10244, -6199, 5314, -7805, 734, 6038, 1361, -1222, 3952, -968, 7071, 6727, -7273, 15263,
+	-5529, -8470, 3885, -3472, 647, -2267, 8242, -697, 4945, 4669, -2626, 9353, -11186, 6429, -16916, -6625,
+	-5842, -14065, 7609, -11402, 10071, -580, 3402, 3246, 698, -419, 3162, 4919, -6166, 7637, -11480, -2314,
+	-14917, 6305, -9317, -10658, 6670, -10755, 11143, 4469, 1588, -9575, 11412, -3185, 7199, 3428, 8139, 5650,
+	-224, -6209, 6671, -3644, 7272, 2314, 5377, 8619, -9464, 117, -3214, 198, -8149, 518, -6374, -10315,
+	7318, 7271, -506, 7804, -1558, 2159, 2860, 4812, -1229, 6448, -5419, -708, -3016, -3207, 276, -7060,
+	-1947, 1250, -5100, -3691, 2873, -5015, 1268, 2382, -3711, 8734, -15335, 213, -6709, -15222, 7304, -10311,
+	9943, 1191, 1932, 8771, -5770, 3964, -2733, -4386, -6036, 206, 1430, -8118, 8054, -3503, 10743, 2223,
+	-4553, -6005, -713, -10772, 10840, -7874, 9963, 5970, 4043, 9026, 1881, 8790, -3945, 11423, -11501, 4853,
+	398, 5563, -4997, -3990, 6504, -3473, 603, 6405, -2535, 9432, -12150, 3629, -9192, -10478, 6192, -10139,
+	-8179, -2124, -5656, -9918, 9099, -11323, 12206, 7258, 4449, -2175, 1487, 5180, -6237, 2404, -4437, -5992,
+	-12552, -5468, 1964, -6717, -856, -802, 2140, -5777, 7402, 3202, -1707, 14811, -16653, 5007, -10627, -9757,
+	5165, -12250, 1994, 1267, -353, -11509, 21079, -2077, 5338, 8740, -4600, -1726, 7191, -3439, 3912, 6381,
+	11906, 13645, -6624, 14597, -7099, 1689, -3708, 5186, -412, -7, 288, 1479, -3560, -735, 1268, -6182,
+	10323, -4242, 3854, 18531, -18566, 3437, -305, -13385, -1295, 4224, -719, -12268, 19816, -1996, 4477, 18788,
+	5481, -6318, 3372, 1824, -618, -4769, 11494, -3454, 8537, -209, 1965, 6802, -1729, -111, 5395, 1638,
+	8860, -133, 4668, 2500, 237, 2199, 2028, -4047, -2984, -17498, 13073, -5221, 1812, 6597, -613, -4196,
+	-4049, 13126, -13653, 111, -2119, -11859, 10538, -1316, 3046, -4659, 2749, -159, -212, -5855, 14180, -5150,
+	-5927, 8004, -7531, -732, -3415, -3495, -15, -4072, 6888, -2208, 8342, 3085, 2529, 8372, -3001, 4227,
+	2698, 21190, -22985, 1354, -1938, -23288, 19692, -4754, -8003, 14307, -12508, -3869, 3611, -8112, 5946, 7607,
+	-9270, -12735, 7353, -9571, 6676, 557, 3664, 2748, 14179, -1230, 1897, 9013, -3025, -590, 3190, 75,
+	-5821, -160, -6630, -1984, -3758, -12745, 15006, -9827, 11279, 1867, -4375, 14096, -16276, -3425, -842, -15934,
+	-2186, 5673, -11434, -6527, 4897, -19630, 22348, -1611, -11526, -10275, 11210, -11711, 8983, 9281, -6546, 3201,
+	-1128, 11545, -2253, 5532, -10288, 9526, -16996, -9014, 6401, 5257, -5381, 4622, -2166, -5652, 5422, -1309,
+	-5447, 20638, -18504, 3641, -5303, -9161, 972, 1591, -12261, -5499, -888, -9923, 6273, -1955, -1368, 6233,
+	0, 0, 0, 0, 0, 0, 0, 0, 1284, 6181, -8509, 579, -782, -10834, 12415, -1764,
+	-2632, 602, 3323, -1163, 1544, 6557, -8225, 3009, 12536, 1275, 607, 9730, -6401, 1080, -546, -3762,
+	-23416, -3188, -3129, -22434, 18022, -7790, 9574, 12111, -8954, -10083, 9628, -12769, 15667, 6951, -2471, 16489,
+	-207, 5038, -4182, 656, -1788, -3005, 1403, -2957, 2877, 2953, -3018, 2514, -1765, -3345, 4168, -928,
+	5312, -502, 2648, 5031, -3788, 4003, -4307, -2506, 598, 260, -1650, -6257, 10462, -5336, 9317, 11275,
+	7604, -2799, 6109, 6578, -4780, 8180, -8746, -2825, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_8000_8[] = {
+	0, 0, -1, 1, -2, 0, -10, 2, -3363, 1932, -8267, -3488, -213, -11456, 9392, -4946,
+	-793, -6041, 5219, -4991, 7240, 2589, 141, 7121, -14532, -10525, 4427, -9208, -1628, 3212, -7307, -9834,
+	18428, -14424, 21713, 17152, -10425, 20187, -11297, -6234, -11349, 7855, -6370, -4564, -61, 3749, -15025, 3433,
+	-1784, -7754, 3257, 5570, -15477, 1148, -3104, -21633, -780, -711, 8457, 3960, -1731, 17681, -20451, 6047,
+	6511, -15149, 12963, 2695, 1901, 5365, 4504, 3738, -353, 8399, -7878, 213, -2944, -8069, 7916, -6053,
+	6161, -5740, 630, 4878, -7316, -181, -5415, -8803, -464, 10235, 1324, 4165, -1082, 10166, -11045, 5403,
+	-361, -1818, 1768, -2438, 4188, 1164, -1376, 4112, 8210, -4501, -1136, 7482, -7599, -2636, -608, -7217,
+	5008, 6126, -4887, 11242, -12294, -3218, 3406, -7807, 12120, 14532, -2161, 14320, -7416, 9791, -14614, 2207,
+	9038, -1461, -4367, 4410, -3298, -10281, 10817, -5308, -16489, -5963, -4573, -15933, 5319, -9906, 2545, -6183,
+	-323, -4049, 3668, 4290, -5070, 5783, -7137, -588, 3287, -15925, 13441, 1928, -804, 6503, 1786, -16,
+	5914, -551, 7033, 8726, -2497, 6986, 1306, 4577, 3720, 14700, -14008, 3433, -2768, -8612, 2206, -433,
+	-11585, 1318, -6662, -12067, 2040, -9224, 3914, -9533, 5578, 8989, -6306, 8826, -10779, -3766, 2458, -11787,
+	-6539, -88, 322, -5423, -954, 1838, -5335, -9218, 2072, -7341, 1515, 3181, -6833, -1618, 300, -10207,
+	-2720, 1625, -5469, 2021, -5281, -4966, 961, -3844, 7262, 13387, -11812, 9973, -7162, -7259, 3727, 339,
+	-8803, -7780, -577, -14234, 9266, -10377, 12852, -3203, 1473, -3796, -1312, 6375, -9022, -1479, -486, -5503,
+	70, -4172, 6027, -1251, 5104, 5164, -2346, 9505, 1765, 5355, -8720, 2280, -2276, -7493, 753, -574,
+	-3043, -16680, 15564, -1856, 373, 8863, -418, -922, 2133, -6407, 9067, 3263, -2835, 6797, -1339, -2262,
+	-11264, 10022, -15051, -6141, -634, -16299, 12804, -7158, 7557, 3838, 2641, 12723, -16446, 8065, -12372, -17430,
+	-392, -2729, 3774, -9409, 15656, 4502, -6926, 16933, 10690, 213, 5715, 5194, 3489, 6597, -1929, 7833,
+	-9788, -3542, -639, -13794, 14905, -6867, 10007, 11743, 12291, -308, 6011, 12871, -6855, 10615, -9842, 1503,
+	6003, -11093, 8878, -539, 4855, -276, 9898, 3880, -3136, 6613, -12379, -2858, 983, -13171, 9167, -1214,
+	-4624, -2554, 681, -9740, 11717, -1645, 969, 11382, -18152, -11157, 4977, -22581, 19332, -2067, 4859, 12318,
+	3778, 3274, -7343, 9692, -15320, -5156, 540, -15537, -1368, 2183, 4090, -2101, 2672, 6186, -4085, -566,
+	11603, 7574, -6314, 14880, -14236, -5063, 4074, -9891, 13720, 13234, -11901, 13235, -9720, -6492, -1878, -3704,
+	4852, 267, -6031, 4518, -2905, -9985, 13370, 562, 7861, -12296, 962, -166, 1647, -10972, 15556, -1263,
+	7991, -10101, 1459, 6719, -9280, -5107, 4629, -9384, -5118, 19398, -21987, -8751, 11451, -17680, 7577, 13347,
+	684, -3576, -597, -2000, 2870, -4523, 7049, 1687, -511, 4273, -6715, 6352, -10603, -2724, -2808, -7127,
+	-10184, -6815, 7080, -8917, 8112, 7432, -4889, 7565, 6507, -4157, 2419, 6802, -8687, 337, -138, -10604,
+	9751, 2970, -3840, 9926, -6800, -3892, 3404, -3419, 937, 5836, 4373, -6576, 17004, 8736, -6123, 22795,
+	460, 1430, -1772, -2578, 6145, -1599, -518, 10379, -9578, 839, -4003, -1935, -5683, -912, -5301, -6939,
+	5050, -2888, 5331, -351, 2919, 5188, -4221, 1173, -7751, 11412, -11448, -931, -7954, -5407, -6135, -11738,
+	-1304, 9066, -527, -4010, 3793, 6983, -13424, 991, 5421, -6908, -1854, 9143, -10924, -11506, 16845, -11471,
+	-2892, 3056, -5240, 728, -2380, -909, -5566, 1883, -7272, 9553, -6138, 2472, -10204, 1233, -8551, -11519,
+	2182, 6840, -9489, 6636, -8439, -7298, 2524, -4987, -3888, -3953, -1501, -6174, 2322, -7068, 7715, -4716,
+	1372, -7072, 6669, -2079, 143, 1663, -679, -6133, 5565, 7579, -14964, 8149, -13000, -16306, 10437, -15105,
+	3858, 1739, 447, -5651, 9814, -734, 600, 9308, -13860, -6319, 2156, -17634, 11529, 880, -7344, 555,
+	13941, -6197, 5414, 8002, -1570, -743, 8142, 1679, 6891, -11028, 10112, -867, 3882, 4068, 1234, -677,
+	2033, -1995, 5568, 5722, -8572, 8900, -10717, -10253, -4144, 1868, 516, 2114, -5427, 6994, -10876, -2607,
+	-1094, -3607, 1350, 3465, -9819, 655, -1572, -14033, -6523, -1569, 3213, -7769, 6880, 3900, -4236, 3810,
+	1183, 5023, -10172, -763, -2844, -7967, -2943, -3506, 5592, -6012, 5174, 10362, -11778, 2568, 1255, -8397,
+	-1, -1356, -3745, 5020, -6647, -643, -5808, -1667, -11624, -5011, 40, -6976, -963, -1936, 397, -6193,
+	4641, -12107, 9556, -204, -1333, 2898, 1798, -6030, 5624, 2875, -914, 9426, -8650, 4524, -6592, -2730,
+	9247, -13119, 8438, -513, 4797, -171, 5695, 3462, 0, 0, 0, 0, 0, 0, 0, 0,
+	-2775, 1035, -1819, 23, -4154, -1540, -702, -8495, 3452, -3524, 3643, 5553, -7136, 4821, -6233, -7352,
+	-412, -1071, 2229, 102, 1146, 2827, -1997, 3367, 2238, -51, 215, 1635, -1067, 1353, -2972, 202,
+	-14523, 3006, -4599, -13430, 10913, -6477, 7609, 6637, 2648, -9777, 10918, 3521, -4909, 11777, -12932, -6360,
+	5625, 9714, -7617, 6285, -4598, -5345, 4386, -765, 2292, 1492, 137, 702, 1075, 472, 215, 1996,
+	-13953, 5211, -8318, -13900, 11740, -11199, 12717, 7803, 1572, 6946, -10599, 4825, -9053, -10707, 7741, -11591,
+	0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_8000_9[] = {
+	0, 0, 1, 0, 3, -1, 12, 3, 5326, -3251, -2564, 1542, -684, -8838, 11755, -3021,
+	5265, -8746, 6275, 6855, -7823, 4217, -2463, -8159, -9868, -16180, 7762, -5391, -4139, 846, 893, -12725,
+	-21281, 5758, -12783, -24518, 20004, -13890, 7338, 13190, 2783, -2809, 5504, 3536, -1274, 9334, -11015, 2831,
+	1821, -4168, 6258, -701, 1077, 6682, -7183, -336, 101, -1094, -2621, -5012, 6955, -6819, 9067, 4151,
+	-591, 7813, -6476, 1509, -1705, -536, -5259, 1196, 10845, 7848, -8586, 7182, -2547, -10240, 11161, 564,
+	-1218, 2298, -4001, 1988, -2022, -4265, 4719, 2153, -1053, -9294, 6461, -8222, 8766, 1231, 317, 4074,
+	13212, -3787, 5816, 11446, -9532, 4185, -1863, -10297, -11089, -3491, -9363, -6500, -4815, -15754, 12415, -14220,
+	-1501, -556, -1127, -4641, 7320, -3274, 5602, 8394, -9732, 3606, -6418, 3572, -13301, -2200, -3726, -12821,
+	3795, -1996, 724, -2774, 5945, -2141, 3222, 4209, -2989, -8934, 6809, -8366, 5412, 4283, -5268, -1922,
+	-3474, 7229, -5429, -61, -1408, -3905, 3989, -27, -4635, 6700, -11886, -955, -5206, -13548, 9624, -10529,
+	7406, 3270, -7151, 10415, -11358, -11838, 15086, -10729, -716, -2424, 11891, 3445, -162, 17088, -12535, 5673,
+	13883, -2865, 234, 12290, -8990, -2884, 4763, -5051, -8687, 11823, -12874, -2096, -806, -6260, -1328, 2653,
+	-13196, -383, -4001, -10083, 4574, -5141, 1968, -329, -22181, 13680, -14793, -18951, 14218, -9267, -699, 12530,
+	271, 1261, 1589, 7270, -7050, 6024, -6432, -759, 13804, 5000, -1529, 15283, -11843, 2390, -3892, -5967,
+	-5739, -923, 488, -4063, 2871, 2690, -4585, 3273, 9591, -4012, 10082, 1612, 10339, 8699, -383, 19670,
+	2129, -11269, 12275, -634, 820, 13818, -16190, -586, 1964, -4904, 1435, 1157, 867, 157, -159, 4139,
+	11396, 11953, -12914, 13685, -13990, -12096, 10747, -13151, -18295, -7343, 2043, -24899, 23010, -5569, 9689, 13751,
+	8138, 14046, -9552, 13041, -15563, -4987, 1677, -14665, -10126, -8449, 8984, -13021, 14177, 5416, 47, 10202,
+	-8494, 4949, -10327, -3102, -1308, -9080, 4908, -1459, 10821, -5400, 2775, 7692, -5631, 3675, -8061, -2622,
+	-4475, 9169, -9507, -4016, 1798, -8875, 6333, -1812, 12941, 10794, -3588, 19622, -18986, 3940, -6971, -12408,
+	18234, 2067, 8327, 13594, -1193, 15977, -15794, 11989, 6256, -990, -798, 6154, -3702, -2813, 4698, 79,
+	8083, 570, 3146, 9861, -7171, 6217, -5490, -1133, 1173, 12476, -6165, 13248, -20808, 6234, -18624, -19425,
+	7144, 2627, -4064, 2928, -1658, -8958, 14115, -4943, 6428, -1615, 1880, 8111, -8352, 3090, -4192, -6176,
+	8164, 1271, -1572, 9427, -7736, 1109, -2638, -2568, 5668, -240, 5586, 3607, -2823, 9354, -10568, -3884,
+	-12131, -1083, -10437, -6507, -2542, -15253, 11701, -8916, 9358, -6873, 10948, 8648, -2789, 10992, -5624, 3936,
+	8430, -3216, 9627, 5252, 2254, 14872, -15385, 11092, 5458, 8725, -6515, 5703, -4274, -4689, 4131, -1941,
+	7696, 6998, -7586, 8955, -10838, -4274, -2401, -10833, -7429, -9313, 6208, -6919, 3005, 3587, -3295, -2887,
+	13527, 4196, 420, 11968, -5448, 5382, -7047, 2587, 6912, -11287, 18748, 1882, 6883, 18085, -7512, 12444,
+	-10730, 6802, -10098, -7323, 3000, -11975, 12021, -2479, 11561, -5350, -332, 6765, -3738, -10540, 19464, -4930,
+	-3387, 21010, -20053, 2340, -9621, -16307, 10759, -15933, 16525, -3744, 12039, 13972, -6463, 17049, -15411, 898,
+	-1617, -14481, 11029, -1696, -520, 7336, -4324, -3426, -5664, 4179, -4897, -778, -5209, -3303, -494, -10892,
+	13030, -9092, 14329, 8791, -3567, 14575, -10540, -1341, -2047, 12205, -7286, -1649, 1109, 747, -8692, -91,
+	-7241, -3938, -1591, -7831, 2791, -7945, 9780, -6267, -6752, -3751, 10234, 3331, -6653, 13877, -9790, -3936,
+	-3351, 16060, -21134, -223, -2462, -19452, 12148, -605, 2681, -9654, 9166, 4459, -6998, 3167, 5348, -13062,
+	6580, -5641, 1110, 3336, 423, -3729, 8572, 3186, -7358, 6821, -9813, -6737, 2596, -6758, -729, -1127,
+	18510, -3644, 11182, 19008, -11608, 12336, -4979, -2854, 2726, 445, 316, 1273, 1049, -1483, 4443, 1520,
+	7051, -6596, 17473, 3758, 3292, 20533, -13879, 6071, 2044, -15970, 15768, 6970, -10835, 16405, -17042, -12064,
+	2318, -11189, 6528, -1352, 1523, 1319, 1654, -1109, -3400, -5456, 434, -6876, 5185, -3226, 2909, 262,
+	11666, 3384, 4830, 11330, -5678, 11999, -13872, 2459, -14093, -5663, 6566, -16153, 16711, 3674, 669, 13247,
+	-2732, -219, -3029, 5266, -11263, -1615, -1643, -11144, 7582, 8004, -6689, 13027, -13617, -1614, -3508, -8078,
+	11945, 12374, -8398, 7391, -608, -7209, 9164, 4250, -11607, 10770, -7526, -3138, -2440, 2139, -12943, -1463,
+	-2079, -4585, 8024, 1061, -2288, 11813, -13776, -2044, 10180, -5484, 3409, 7276, -1969, 1606, 388, 4091,
+	-1777, 9288, -4415, -2272, 6177, -904, 1925, 10965, -5768, 11222, -11914, 3181, -11836, -6173, -3395, -16474,
+	-8106, -5138, 7127, -2662, 1026, 8618, -5850, 2901, -7434, -4333, 7806, -6041, 5966, 8923, -6603, 6350,
+	8487, -1505, 5332, 13605, -15333, 8675, -9098, -12593, 7619, -1849, 3990, 9195, -9325, 5068, -4540, -9146,
+	1990, 3217, -7386, -1440, 1508, -10262, 9238, -1136, 8935, -34, -119, 6973, -5980, -1482, 1489, -5551,
+	3140, -4298, 6604, -5321, 11621, 8674, -11193, 15913, 2489, -3694, 6372, -2508, 5806, 6595, -5790, 6037,
+	0, 0, 0, 0, 0, 0, 0, 0, -3003, 8342, -10275, -3060, 2137, -11346, 11349, 1249,
+	24310, 2889, 2900, 25037, -21684, 8109, -10844, -15468, 2374, -2256, 2918, 2458, -3175, 3861, -5539, -4152,
+	8888, -12255, 14088, 5454, -1559, 13998, -12075, 1869, 497, -11440, 8286, -7020, 10824, 610, 8139, 8926,
+	-1126, -92, 40, 1529, -4240, 732, -2157, -6125, -9490, 8761, -9023, -1771, -4632, -6202, 1747, -8348,
+	15061, 3644, -974, 6988, 1832, -3349, 10182, 8176, -6058, -1464, -22, -5790, 3742, -638, -394, 963,
+	3094, -2840, 1855, 2266, -1841, 595, 540, -1873, -1005, -116, -133, -815, 476, -315, 369, 63,
+};
+
+static const int16_t reference_8000_10[] = {
+	0, 0, 0, 0, -2, 6, -12, 1, 984, 2716, -5299, 277, -720, -7930, 9458, -3381,
+	3153, -4083, 4797, 511, 2607, 3011, 1107, 4619, 11252, -9071, 6196, 1100, -146, -849, 533, -7750,
+	-6191, 1782, 1717, -7982, 12025, 3359, -2498, 16210, 9292, 5827, -15, 2323, 6808, 2135, -2821, 12019,
+	-6689, -3098, -6455, -2704, -1132, -9179, 5622, 1562, 3561, -2344, 12088, 642, 4149, 9114, 380, 2440,
+	11215, -3319, 11654, 19587, -18892, 8935, 2294, -13073, -19336, -7760, 8680, -18717, 11770, 10116, -10655, 2719,
+	5337, -7501, 2182, 2935, -1104, -5203, 6199, -4228, -7515, 1315, -972, -2843, 1024, 581, -785, 243,
+	4199, 8139, -3976, 1822, 474, -588, 2155, -375, 2181, 9872, -9177, 6128, -4950, -7243, 8567, -3867,
+	12684, -10554, 3878, -505, 11320, -524, -4695, 16172, 12522, -5910, 10272, 11184, -5490, 6901, 2053, -3619,
+	7431, -7246, 2700, 5344, -7596, -1242, -1416, -9442, 9567, -549, 4385, 13986, -6623, 12398, -11152, 6438,
+	6887, -9013, 10952, 13021, -8008, 17042, -15592, 2152, -3990, 3904, -6219, 2220, -5988, -5344, 2214, -5103,
+	16738, -6586, 23011, 15242, -10704, 24698, -12786, -8152, 6243, -5536, -6031, 17107, -21139, -6439, 1760, -10258,
+	9149, 7540, -12111, 11786, -11436, -8052, 907, -3189, -1848, 13765, -12606, 1197, -2558, -9041, 6462, 1502,
+	-24456, -5610, -2355, -19955, 3315, -3866, -294, -7799, 9702, 876, 16971, 2162, 15039, 17137, -2401, 20416,
+	3636, -1763, 11384, -4878, 19197, 14459, -8072, 23382, 2706, -5086, -6768, 5179, -6434, -13372, 10943, -3249,
+	-1126, -597, -8009, 212, -6053, -9705, 453, -7595, -4621, 2255, 631, -1769, 7304, 3181, 30, 13734,
+	-13848, -285, -4949, -10443, 942, -6841, 3808, -4119, -14358, 6915, -9018, -9166, 732, -660, -9180, 1633,
+	-224, -5044, 7782, -6194, 12138, 7768, -1939, 15234, 8913, 619, -351, 14514, -9194, 2980, -1944, 1161,
+	-3705, -3324, 1189, 3015, -9705, 2426, -5711, -13111, -3535, 5508, 1599, -10012, 12048, 11263, -16475, 9246,
+	-2143, -8524, 3504, -4017, 1197, -3275, 2522, -3497, -4278, -7785, 5199, 4691, -10502, 4518, -1245, -9521,
+	3673, 10122, -11260, 8373, -6305, -849, -8896, 4716, 528, -7029, 11340, 6115, -10669, 14476, -15526, -9432,
+	-20399, 9823, -240, -7591, -2585, 12134, -15187, -5336, -5178, -5950, -1968, -4046, 344, -6730, 7406, 716,
+	-3037, 7232, -8560, 2925, -6175, -6093, 815, -3133, -10033, 8420, -1654, -3784, -1319, 9770, -12267, -317,
+	3681, -971, -12432, 5197, -3281, -22181, 25127, 4797, 2805, -3127, 3112, -269, 4484, 3304, -3491, 4636,
+	-13, 1, -20, 6, -12, -11, 0, -5, 6035, -20058, 18758, 2363, 21, 14002, -7284, -399,
+	-4787, -10293, 9026, -7551, 8894, 7479, -6433, 9087, 5703, 7338, -5206, 7438, -8565, -2361, -737, -8544,
+	2356, -12771, 12053, -1861, 5943, 10111, -7296, 9261, -5143, -3708, -1708, -4124, 904, -6496, 9109, -3913,
+	-3362, 14780, -14156, -4504, 6086, -15185, 17893, 6625, -24, -3088, 4382, -1665, 3208, 4750, -4671, 4090,
+	-12571, 8866, -12109, -9611, 5396, -13609, 12952, 1131, -2842, 3997, -3980, 297, -2939, -2847, 1417, -4380,
+	-3008, 1374, 3097, -3100, 4103, 6465, -8139, 5197, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_8000_11[] = {
+	0, 0, -1, 1, -3, 0, -7, 0, 5753, -625, -4127, 2515, -1459, -9111, 11318, -3066,
+	-4743, -21326, 20308, -7863, 9334, 17186, -13197, 8998, -15760, 6738, -4820, -6634, -183, 3035, -10936, -511,
+	1883, -5749, 2270, 7850, -13425, -2246, 6776, -17354, -8159, -1902, 7139, -9586, 9498, 9184, -7393, 5783,
+	5788, -6407, 2617, -2246, 3860, -2491, 3482, 1351, -12728, -1385, 3511, 201, -9634, 8470, -11746, -12344,
+	7234, -5240, 586, -2873, 4878, -10593, 20225, -2669, -499, -1057, 2821, 925, -220, 3613, -3210, 307,
+	-6205, -5357, 4430, -5512, 2718, 3800, -4866, -671, 869, 10257, -11887, 2939, 297, -11393, 11070, 6675,
+	4722, 5893, -1626, -1451, 7940, -1440, 3694, 9598, -1048, -5499, 9434, -4396, 6862, 8594, -3585, 7303,
+	-13446, -4619, 5292, -11754, 9385, 6345, -6300, 6295, -12189, 5998, -5108, -7295, 963, -1251, -3801, -4945,
+	-14511, -3188, -2824, -15802, 10570, -3559, -3342, 4492, -3841, 9675, -6824, 3177, -7181, 1365, -8166, -5547,
+	-6857, -5535, 3239, -11158, 12307, 10, 3080, 9762, 7137, -6123, 12408, 2155, 3331, 10190, -809, 3032,
+	-8479, -268, -3669, -12316, 10824, -8194, 8983, 4670, 6903, -3687, 5390, 4828, -4011, 1912, 2434, -6540,
+	54, 1388, -2159, 5523, -11226, 1547, -8619, -12382, 7905, -14382, 18027, 13831, -15602, 16266, -9538, -14460,
+	12270, -7491, 10219, 14158, -11724, 9649, -7642, -9152, -8177, -4010, 7943, -9407, 11426, 8229, -3403, 12505,
+	8608, 17739, -11787, 6191, -759, -8471, 10272, 2636, 17358, 12166, -5795, 17164, -10628, -449, -1160, -2952,
+	3780, -3679, 5706, 181, 2745, 7247, -7861, 4089, -4056, -7210, 242, -8556, 5416, -4273, 708, -666,
+	-5351, -1167, -818, -6484, 5446, -2741, 3953, 3529, 3848, -17098, 18632, 1395, 4339, 14838, -6159, 9233,
+	-5151, -2121, 1733, -9657, 7984, -926, 1921, -429, 3362, 10344, -5842, 3540, -249, -1944, 841, 2321,
+	-2036, -1547, -5474, 2081, -8783, -4789, -2792, -10918, -4241, -6885, 9949, -8839, 12178, 9267, -5554, 11595,
+	-3825, 1158, 606, -13061, 20388, -3324, 10506, 19708, -1499, -5339, 4702, 5633, -11934, 4866, -5703, -15162,
+	-9587, -2248, 5961, -9951, 6849, 8370, -8301, 1735, -3701, 4645, -5683, -3922, 4549, -854, -7144, 7498,
+	1103, 5202, 1773, -6620, 12532, 3835, -3199, 12507, -8750, 14093, -13755, -1432, -8102, -3979, -11365, -13022,
+	19343, -6114, 6362, 22965, -21653, 5997, -4608, -17099, -13107, 13550, -20560, -9319, 3234, -20620, 12734, 929,
+	-5906, -1586, -4428, -10002, 7811, -13648, 20068, 162, 4485, -2468, 2295, 3994, -3736, -173, 3871, -4822,
+	13849, -21508, 21740, 4213, 4121, 15976, -9395, 7590, 5742, 317, 2914, -2384, 7925, 1522, 1893, 5559,
+	4340, 7131, -2654, 10629, -9828, 7190, -14967, -1028, 3083, -5885, 1136, 1334, 2376, -3178, 7601, 7525,
+	-1860, 2088, -1852, 5692, -10289, 2406, -6101, -8625, -17915, -7126, -389, -22098, 17268, -7997, 10968, 8696,
+	7963, -2821, -4726, -395, -1639, -10080, 4948, -8817, -2401, -8810, 2345, -12098, 15173, -6686, 12643, 9582,
+	-5437, 3520, -6168, -1909, -4840, -1442, -8992, -8726, 644, 16404, -13651, 4583, -4858, -8641, 4492, -1406,
+	2413, 6855, -8334, 183, 3355, -10238, 12184, 6647, -3723, 7247, -11275, 10148, -17111, -8462, 4427, -13254,
+	3614, 14276, -8854, 10490, -10746, -486, -3416, -5759, 20629, -4402, 6107, 14092, -3751, 5232, -1328, 6040,
+	247, -3277, 206, -495, -1501, -1755, 1411, -3045, 3197, -9693, 11114, 2490, -1485, 11447, -10983, -1060,
+	-25272, 920, -6572, -23204, 17741, -10282, 10855, 10715, -2356, 2695, -3482, -2879, 3838, -4885, 7104, 4609,
+	-6692, 13680, -14247, -2852, -835, -12890, 10081, -3473, 4762, 9959, -3488, 10144, -10204, 5360, -12567, -4766,
+	-600, -9, -406, -3382, 5643, -1628, 3218, 6537, 4294, -9323, 7411, -2752, 7444, 3300, 1235, 9200,
+	-9925, -1336, 1990, -984, -6508, 7527, -16088, -9852, 6108, 435, 593, 4570, -1885, 146, 1974, 613,
+	15528, -8389, 9505, 9614, -4548, 7448, -3732, -2015, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_8000_12[] = {
+	0, 0, -1, 1, -3, 0, -7, 0, 5753, -625, -4127, 2515, -1459, -9111, 11318, -3066,
+	-7201, 1895, 1477, -14068, 20749, 1872, 438, 24642, -15760, 6738, -4820, -6634, -183, 3035, -10936, -511,
+	-16334, -5966, -911, -15554, 11482, -5701, 7386, 7203, 16038, -1162, 4683, 17807, -15060, 8947, -13171, -6683,
+	279, -10012, 8592, -1717, 2119, 6471, -6883, 896, -2680, -299, -4372, -2298, 1459, -8960, 11921, 357,
+	1324, 3545, -6120, 6077, -13037, -6749, 4848, -17518, -5992, -4922, 8003, -8963, 7039, 4025, 2096, -361,
+	5202, 2754, 350, 3753, -3314, 308, 716, -5391, 6389, -1109, 4391, 9730, -11880, 6970, -6461, -12038,
+	5080, 722, -3846, 3161, -3289, -4224, 174, -4333, 7615, -3128, 7451, 8529, -4703, 6821, -1039, -1053,
+	17619, 5503, 3258, 10985, -363, 7847, -6022, 7489, -6525, 10956, -20685, -1103, -3543, -23580, 20060, -2683,
+	8195, -2314, 9305, 14055, -14544, 14461, -13633, -11482, 2607, 6685, -113, 2900, -611, 6702, -9852, 3088,
+	-5621, 5178, -14724, -3361, -3045, -17329, 10740, -5919, 75, -8576, 7817, 4435, -10255, 5404, -5103, -15200,
+	9589, -9878, 14205, -259, 12352, 9831, -1284, 18341, 7458, 3938, 1041, 2028, 5581, 2365, -5, 10364,
+	6604, 2167, 3036, 4761, -384, 7233, -8916, 5256, -3196, 1528, 154, -7575, 14682, 2025, -1554, 21696,
+	-212, -12129, 16030, 2385, -2468, 13911, -6257, -2450, -773, 9029, -7168, -1884, 3663, -4397, 1469, 4713,
+	8382, -9234, 11967, 5607, -1377, 8754, -833, -165, 6739, 6606, -7586, -1874, 7265, -9805, 8539, 7038,
+	-1315, 4398, -1560, -80, 1962, -1002, 3722, 3883, 8188, 16720, -17550, 9435, -9249, -17694, 17251, -7968,
+	7557, 188, -539, 3820, -288, -2880, 4069, 1622, 9546, -9897, 3863, 3987, 246, -3658, 9933, 3759,
+	-5254, -9086, 4835, -6071, 3085, 53, 1884, 153, 3077, -6528, 10811, 8343, -9957, 15387, -15299, -7356,
+	2545, -4658, 5736, -471, 5316, 2579, 3082, 6639, 15216, 3950, -8281, 5008, 5138, -15800, 21240, 9379,
+	6700, -8868, 6907, -4407, 8590, 2209, -1487, 4994, -487, -932, 10832, 758, 2053, 14758, -10730, 3487,
+	564, -5712, 3806, -1431, 5312, 584, 4422, 8930, -5376, 3120, -5636, -7695, 8389, -8954, 11283, 6563,
+	3565, 4234, -954, 2117, 105, 1155, -840, 1295, -675, -4517, 4978, -14266, 19839, -354, 5245, 14142,
+	-11498, -4881, -4253, -4657, -3288, -4140, -2693, -4410, 491, -856, -422, -792, 1552, -3671, 6961, 192,
+	5662, -6039, 5998, 4249, -3955, 5383, -6110, -3553, 1378, 2601, -186, 3476, -2072, 2481, -2069, 2469,
+	2973, 1671, 3615, 3458, 381, 10585, -16168, 5910, 1113, -2529, 4125, -2866, 4320, 3445, -2942, 3450,
+	-1827, 4251, 2759, 858, -3176, 8507, -11923, -3720, 3961, 1506, -8264, -1069, 4577, -12351, 13468, 7408,
+	1225, 11676, -7690, 1009, -370, -2980, -1094, 856, -3200, -9938, 11169, 3249, -2987, 9736, -2967, 2804,
+	4425, -2067, 6903, 8577, -8353, 13374, -15958, -3511, 1751, -2421, 4377, 9187, -9792, 3751, 2804, -6318,
+	-163, 8007, -9242, -2982, 6281, -8777, 5277, 8771, -12974, -9166, 4765, -5682, -1002, 8700, -16172, -241,
+	-18036, -18013, 10915, -16014, 7923, 3527, 559, -1065, 9109, -9088, 16073, 954, 9257, 13296, -2030, 14999,
+	-6793, -1334, -901, 872, -5779, -765, 696, -7230, 4679, -2582, 3064, 6743, -8539, 2683, -2854, -10926,
+	-3096, 1919, 2916, -2174, 4226, 8040, -10397, 7606, -4107, 8621, -10047, -1412, -3290, -7548, 3180, -5897,
+	-11583, 1379, -3045, -16970, 19436, -8189, 13947, 14660, 1733, 10822, -9446, 1085, -292, -4873, -701, 1629,
+	20241, -8854, 11777, 19539, -14957, 11945, -7651, -8782, 2664, 1455, -1878, 236, -1046, -5770, 8286, -4594,
+	-18026, -3993, 956, -14365, 6571, 475, -2716, -70, -7514, 5965, -9545, -2430, 534, -6436, 1392, 3979,
+	7935, -14045, 8547, 3295, -4373, -48, 4238, -11260, -4270, -2862, 3329, -7029, 10474, 1343, 2811, 10456,
+	2355, -4882, 9842, 2031, -4464, 11301, -12228, -8969, 17424, 4455, 2840, 11427, -1328, 4520, -765, 5506,
+	102, -4979, 2790, -1403, 4496, 2153, -626, 9139, -5491, 9008, -10633, -2829, -3100, -10392, 7269, -8992,
+	-3104, 5551, -241, -2076, 162, 3608, -5661, -2573, 7745, -7657, 7356, 2718, 3021, 985, 8665, 4214,
+	-19749, -10989, 12751, -13602, 1848, 13557, -14660, -9732, -2608, -3100, 1859, -4615, 8225, 2197, -2253, 11824,
+	-10201, 3081, 2445, -9525, 10902, 7549, -8502, 10571, 2985, 5899, -8925, 9998, -14498, -8712, 8256, -16349,
+	12610, -8571, 8976, 369, 4729, 531, 7834, -1993, -1402, -14847, 12449, -3292, 2098, 6781, -1756, -1162,
+	-13600, -4728, -3260, -17931, 13940, -9213, 8407, 6624, -8548, 13518, -11949, -3874, 5026, -7393, 6254, 9594,
+	-490, -15434, 8393, -674, 1349, -2526, 14183, 77, 9408, -6902, 6547, 10173, -12306, 2913, 438, -15743,
+	-2187, -6780, 7028, -6188, 8065, 2696, 1569, 7348, 5333, -15725, 12178, 8016, -12105, 7155, -1006, -15481,
+	0, 0, 0, 0, 0, 0, 0, 0, -210, 218, -294, -246, 250, -350, 362, 235,
+	-5847, -2450, 1159, -3904, 2185, 614, -492, 744, -20219, -778, -3393, -18704, 14816, -6168, 6588, 9771,
+	2511, 3429, -1600, 3471, -2399, 91, -273, 461, 7157, -7105, 7637, 5507, -4608, 6893, -5595, -4969,
+	-11016, -168, -5156, -13401, 12845, -10142, 13124, 9763, -6209, 2005, -4646, -4904, 1481, -5515, 4026, -2334,
+	15812, 6147, -242, 18901, -18039, 5385, -8838, -14256, -1167, 573, -851, -1405, 759, -948, 352, -431,
+	-9141, -10530, 10882, -10961, 11772, 10103, -8518, 11104, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_8000_13[] = {
+	0, 0, -2, 1, -5, -3, 0, -12, 2106, -3734, -1222, -1264, 786, -6415, 8487, -2721,
+	-9550, 6266, -6336, -4128, -2825, -2967, -3539, -8789, 9752, -4083, 7652, 3211, 3993, 6936, -3031, 9122,
+	16495, -8394, 10682, 15654, -13712, 10797, -9266, -12073, -7739, 1161, -2925, -8043, 7300, -4049, 3936, 5821,
+	-5861, -8379, 12177, -12587, 20097, 12209, -7718, 25328, 11409, -8158, 11545, 7633, -4384, 12214, -11234, -3108,
+	6090, -8013, 6043, 5463, -6472, 5643, -7263, -7615, -3630, 11655, -15303, 195, -4950, -15860, 13225, -8743,
+	-9134, -7033, 7662, -9505, 9616, 8030, -7566, 9892, 5111, 276, 1363, 10767, -12569, 5420, -9716, -9620,
+	9751, 1309, 352, 8619, -5617, 1819, -2078, -939, -1324, -9382, 9689, -3237, 4947, 8692, -6563, 5838,
+	2601, -8921, 8453, 2573, -1705, 7910, -6884, 380, -3996, -8975, 8899, -2705, 849, 9577, -10549, -788,
+	-9859, 3733, -4251, -6491, 2470, -3083, 675, -1084, 1281, -21643, 16550, -1464, 810, 10122, -5101, -2670,
+	-5878, -1411, -1880, -8196, 8215, -6455, 10309, 5486, 1321, -9115, 2691, -5439, 9149, -5595, 13019, 9053,
+	-3682, -17062, 15745, -14707, 22938, 8732, 1047, 25271, 5670, -10908, 11936, -913, 8159, 8888, -2186, 13183,
+	7791, 6538, -4135, 7905, -6498, -240, -4002, -3290, 4075, 13017, -11818, 6794, -7863, -9168, 5881, -6914,
+	-1242, -6499, 4543, -6010, 8876, 1159, 2334, 9950, 2536, 8384, -5732, 5528, -6309, -1105, -3292, -4179,
+	7193, 18761, -18165, 8631, -8987, -16481, 14001, -8544, -1852, 2889, 1201, -521, 2366, 5807, -8138, 7001,
+	-1025, 1350, 1421, 613, -1792, 2690, -1922, -3656, 13108, -1441, 4769, 15703, -17246, 8183, -11548, -17613,
+	-2217, -761, -1782, 2770, -7271, -2865, 2836, -10505, 2634, 3024, -59, 5971, -8580, 3722, -8305, -10237,
+	-19140, 4016, -10561, -20625, 17468, -17133, 21282, 10717, -10932, -9870, 4938, -14344, 14744, 630, 1302, 13236,
+	3012, -14337, 16049, -362, 3787, 14890, -11464, 6419, -7945, 8627, -9979, -8190, 5288, -10585, 9286, 113,
+	-10108, -9210, 5531, -8654, 5406, 2800, -2021, 1211, -17412, -20072, 14169, -21876, 21727, 6080, 1038, 16881,
+	-749, -1946, -1003, 325, -1277, -2002, 1531, -732, 29, -6005, 2663, -2041, 1696, -2624, 7409, -1745,
+	15910, -3859, 6217, 13260, -9769, 7703, -8088, -5722, 15109, 954, 2698, 9136, 625, 2015, 4171, 9790,
+	2154, 10191, -8586, 5171, -6722, -7470, 6900, -7780, 2981, 9258, -10142, 8000, -12347, -6899, 856, -13463,
+	-12098, -851, -2008, -8893, 5204, -2249, 951, 2518, 3229, -2233, 3501, 1929, -533, 4375, -4431, 643,
+	1578, -9119, 8171, -3778, 8837, 3061, 4699, 10789, 3501, 962, 1278, -420, 4861, 805, 1780, 8056,
+	-3342, -4679, 5190, -9602, 14773, 3043, 421, 16382, 7720, -2465, 1638, 5580, -5534, -918, 2821, -8101,
+	-8004, 22176, -18264, 673, -6966, -11022, 3224, -8936, 4359, -18100, 16328, -4239, 9619, 10328, -2780, 10611,
+	13234, 6934, -6544, 19433, -22766, -1767, -4583, -20836, -1725, -2670, 3661, -874, 833, 5070, -5668, 2047,
+	11315, -8507, 9559, 5683, 1826, 7945, -3366, 8749, 1285, -3300, 4452, -4293, 8872, 673, 5311, 9012,
+	-5044, -18275, 14862, -6444, 6103, 11546, -8806, 4678, -11953, 12485, -19162, -6919, -749, -21882, 19899, -8147,
+	-5226, -4428, 2734, -4562, 4823, 4003, -6809, 7573, 4008, 785, -2426, 257, 1574, -4497, 6122, 1805,
+	-768, -2420, 994, -3685, 5186, -1546, 4059, 4686, 5129, 4478, 393, 8502, -8771, 6839, -12022, -5875,
+	-7457, -2691, 2708, -4955, 2499, 3423, -4479, 510, -14153, 16456, -18441, -9933, 4166, -15951, 9410, -162,
+	4768, -4750, 6845, -1720, 8023, 5970, -2446, 12024, -6166, 3480, -2886, -9248, 11053, -2547, 2125, 11522,
+	9320, 11906, -8395, 17282, -19750, -1883, -4184, -16310, -5120, -9347, 13070, -3900, 3584, 13609, -10578, 2068,
+	2080, -2506, -1345, 6490, -12950, -2764, 509, -18842, -3979, -4668, 2734, -1056, -2826, 1108, -364, -6803,
+	-6769, -1709, -1139, -5795, 3545, -2332, 1467, 1801, -14691, -1346, 3142, -17486, 20208, 3942, -3441, 22050,
+	22511, -1092, 10281, 17190, -7497, 14821, -12882, 2565, 4339, -1063, -569, 2403, -1545, -2318, 3416, -1619,
+	-16824, 2224, -7822, -10511, 1578, -9680, 7191, -6483, 12369, -1321, 5594, 11089, -7951, 9389, -11454, -3502,
+	10526, -8556, 7555, 10382, -8892, 7467, -7901, -5858, 10752, -19756, 20073, 8764, -6620, 16805, -11482, -5760,
+	-5218, -10435, 9365, -12104, 15880, 5476, -764, 15438, -1415, 5678, -6533, 2295, -6457, -6165, 4571, -10416,
+	13981, -8377, 10057, 15037, -14650, 9727, -7260, -13740, -2465, -6921, 2896, -3723, 2191, -977, 3025, -1468,
+	7195, 6491, -3403, 10463, -12140, 2284, -8708, -10655, -14068, 3897, -8509, -14512, 13014, -10789, 10429, 11431,
+	10996, 10443, -6216, 13159, -12841, -1926, -917, -10492, 2069, -4874, 3932, 3531, -5764, 3365, -3812, -7816,
+	-4633, 2375, 1180, -7839, 12041, 2892, -1773, 15492, 5093, 6513, -3175, 2810, 150, -995, -69, 2638,
+	-11996, 6554, -9693, -3807, -6061, -8221, 2085, -14163, -1952, -4487, 6566, -3455, 5919, 8242, -8694, 8610,
+	-3129, -7011, 5690, -3141, 2392, 2996, -140, 641, -7713, -9215, 4437, -8888, 6443, 337, 838, 1943,
+	-13441, -9569, 2629, -14752, 11719, -4360, 9108, 5205, 8044, -8684, 10371, 10059, -10018, 12574, -14587, -7508,
+	7922, 5549, 109, 10260, -9049, 4861, -6666, -5731, 160, 4654, -7510, 3180, -8043, -6370, 1129, -11518,
+	-5843, 2109, -7430, -181, -6112, -8547, 5819, -9645, -2245, -6712, 1208, -4689, 5445, -5817, 12775, 3883,
+	-2148, 6590, -2168, 4838, -8067, 5002, -11938, -6457, -3820, -5023, 6929, -7171, 9933, 8141, -8808, 11605,
+	916, -6569, 4107, -5801, 11367, -648, 7297, 14075, 41, -3457, 1607, 2389, -4797, 2969, -6800, -4984,
+	-9875, -6393, 5618, -6730, 3196, 6873, -9823, 1366, -5776, 9448, -12052, -5130, 2436, -14552, 15560, -2129,
+	2685, 3154, -144, 5783, -5721, 4573, -8637, -2226, 5604, -6572, 8032, 8552, -11663, 9649, -11530, -14282,
+	6322, -7779, 10344, -90, 6066, 9336, -6419, 9017, -3841, 8683, -9716, -5927, 6839, -10944, 11417, 6306,
+	-7754, 11618, -15029, -3872, -1546, -14153, 8730, -5395, -4869, -6238, 3556, -9289, 12695, -312, 4768, 13726,
+	9010, -7740, 6862, 5347, -2544, 4713, -2758, -1415, 625, 2021, 694, -2138, 5626, 3628, -5538, 9430,
+	10635, -8274, 5569, 6916, -4475, 657, 4415, -4259, 3031, -4030, 4536, 2032, 69, 5125, -4830, 3118,
+	-4152, -5239, 1280, -9177, 10109, -4646, 9733, 6508, 7172, 9543, -8277, 9539, -9425, -5343, 2167, -6782,
+	10755, 444, 2695, 14502, -13274, 6234, -6969, -7979, -14175, 14572, -14675, -15329, 14881, -14500, 13544, 13029,
+	1843, 10885, -8824, 1350, 473, -7706, 8225, 2359, -1300, -3581, 1720, -951, -174, 323, 8, -1476,
+	3933, 4254, -6694, 4071, -5077, -7365, 5823, -5411, 4615, -5031, 9627, 2544, 1638, 12214, -11999, 5947,
+	-3644, -22688, 14515, -7047, 5809, 5166, 2213, 1234, -15309, -7775, 4312, -15234, 13339, 179, 3996, 9929,
+	6315, 5355, -7551, 7578, -8429, -7744, 6421, -8331, -1198, -2419, 3595, 789, -436, 5936, -6668, 2993,
+	-5982, -5927, 6131, -5513, 3778, 5952, -5799, 873, 7498, 2844, -4461, 8480, -9577, -5669, 6937, -10410,
+	-23669, -4972, -6191, -21651, 13973, -13792, 14998, 4608, 9557, -6552, 5098, 5994, -3526, 4422, -4971, -1295,
+	0, 0, 0, 0, 0, 0, 0, 0, 4449, 10497, -10083, 7389, -9491, -8104, 5266, -10156,
+	7441, -5913, 7239, 5897, -4415, 8058, -8559, -3100, 1950, 7824, -6245, 5079, -7446, -3575, 351, -8331,
+	321, 2149, -3957, -59, -763, -5591, 6151, -2693, -9318, 147, -10216, -9939, 4660, -16755, 17018, -2720,
+	8074, 2912, -4229, 10869, -12441, -3694, 2385, -12203, 5222, -10331, 11042, 683, 3873, 9556, -6217, 7374,
+	-5969, 5201, -6300, -5468, 5000, -6756, 6780, 4739, -3297, -6226, 5763, -5945, 8560, 4312, -1985, 10392,
+	3477, 4992, -783, 4706, -2656, 2475, -3173, 1352, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_48000_6[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, 19451, 9133, 15973, 11706, 12142, 13302, 8210, 13877,
+	3736, -9957, 5448, -7868, 6405, -5480, 6561, -3035, 4481, 3155, 2972, 4729, 992, 5721, -1255, 6005,
+	13939, -4989, 14885, -2791, 15336, -341, 15211, 2228, -5124, -14145, -2004, -15238, 1310, -15490, 4565, -14884,
+	-9097, -505, -8927, -2795, -8063, -5046, -6523, -7036, -11340, 109, -11107, -1767, -10548, -3462, -9748, -4935,
+	-2443, -693, -2404, -1568, -2049, -2399, -1415, -3073, -1036, 14657, -4005, 13659, -6625, 12040, -8759, 9904,
+	6298, -1125, 7678, -557, 9074, 554, 10293, 2236, 7094, 2936, 6990, 3772, 6842, 4658, 6617, 5623,
+	12955, 8677, 10539, 11739, 7274, 13946, 3489, 15055, -945, -7248, 131, -7836, 1448, -8122, 2887, -8016,
+	-8671, -4990, -6725, -7067, -4184, -8417, -1322, -8855, -9336, 4637, -9765, 2458, -9588, 339, -8875, -1547,
+	-1077, -6101, 8, -6946, 1421, -7509, 3066, -7686, 11141, 8794, 9593, 9960, 7963, 10776, 6346, 11262,
+	-25013, -7728, -23046, -13139, -19783, -18004, -15396, -21984, 2168, -5063, 2384, -4977, 2575, -4860, 2731, -4741,
+	791, 3620, -179, 3132, -822, 2401, -1085, 1580, 11550, 10929, 8820, 12240, 6092, 12782, 3586, 12654,
+	-1103, 2787, -2130, 3153, -3216, 3305, -4349, 3257, 6856, -18496, 10678, -15895, 13505, -12329, 15066, -8180,
+	4329, 228, 5071, 1773, 5335, 3620, 5018, 5619, -8469, -2860, -8809, -5444, -8143, -8103, -6521, -10456,
+	547, -1554, 1176, -874, 1515, -26, 1538, 881, -2265, 1871, -3255, 1932, -4355, 1686, -5470, 1088,
+	11244, 9935, 9190, 11741, 6884, 12864, 4563, 13308, 4816, -1377, 3512, 797, 1565, 2237, -712, 2781,
+	1345, 17707, -3242, 18571, -8049, 18108, -12673, 16285, -10287, 1291, -8106, -1137, -5418, -2494, -2652, -2718,
+	-7038, 1131, -5805, 280, -4652, -134, -3685, -224, 8497, -10743, 11446, -9297, 13972, -7035, 15855, -4101,
+	7791, 981, 8355, 4277, 7741, 7898, 5835, 11428, -2830, 3411, -3145, 3824, -3762, 4189, -4665, 4385,
+	7096, 3441, 5812, 4694, 4312, 5610, 2679, 6158, -3241, 10160, -4772, 8803, -5699, 7189, -6001, 5565,
+	1297, 10815, -884, 12006, -3376, 12581, -5989, 12495, 3021, -1545, 3795, -29, 4059, 1586, 3838, 3152,
+	-3881, -7172, -1371, -7753, 1281, -7531, 3805, -6471, 2444, 5933, 315, 7687, -2376, 8630, -5326, 8615,
+	3188, 13356, -806, 13665, -4691, 12760, -8096, 10749, -14558, 4096, -16011, 149, -16278, -4226, -15252, -8653,
+	16437, 13234, 14021, 17393, 10414, 20970, 5787, 23594, -2706, -119, -3608, -1671, -3817, -3361, -3379, -4928,
+	3809, 27175, -916, 25811, -4833, 23538, -7772, 20685, -8851, -2554, -6471, -3708, -4056, -3854, -1974, -3068,
+	8097, 9182, 6155, 9785, 4277, 9939, 2567, 9708, 16467, -3200, 17018, 961, 16367, 5078, 14605, 8789,
+	16394, -5826, 16151, -541, 14223, 4193, 10933, 7848, 5750, -8617, 7000, -7513, 7992, -6209, 8698, -4767,
+	-10313, 8624, -10804, 6134, -10517, 3851, -9611, 2030, -9632, -852, -9203, -2712, -8241, -4383, -6822, -5697,
+	0, 0, 0, 0, 0, 0, 0, 0, 3329, -10299, 5491, -9214, 7306, -7691, 8691, -5837,
+	-2236, 18947, -6152, 17010, -9311, 14271, -11555, 10978, 8400, -1605, 8588, 1035, 8020, 3628, 6738, 5968,
+	-7485, -2301, -6742, -3424, -5857, -4347, -4880, -5061, -2398, 9556, -4177, 9347, -5985, 8773, -7736, 7809,
+	6488, -12470, 9265, -10466, 11428, -7827, 12832, -4739, -3406, 1888, -3830, 969, -4001, -44, -3897, -1080,
+	4254, -2550, 4357, -1048, 3988, 390, 3182, 1625, 12854, 26726, 6493, 28348, 53, 28423, -6085, 27005,
+	8090, 11676, 5517, 13539, 2514, 14760, -746, 15243, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_48000_7[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, -6313, 21227, -9659, 17288, -11632, 12913, -12237, 8518,
+	4046, -13131, 6382, -10856, 7892, -8147, 8499, -5270, -1622, 8089, -3362, 7229, -4770, 5989, -5766, 4484,
+	1243, -14565, 3528, -14351, 5789, -13677, 7919, -12530, -11011, -12420, -7814, -14453, -4137, -15608, -239, -15753,
+	452, 1213, 33, 1047, -324, 754, -581, 347, -6267, 3943, -6364, 2620, -6105, 1336, -5503, 198,
+	-11868, -2265, -11635, -3858, -11206, -5504, -10526, -7187, -10625, 389, -9505, -2309, -7699, -4431, -5442, -5809,
+	-10823, 2110, -10313, -750, -8981, -3315, -6941, -5333, 6487, 1588, 5629, 3514, 4237, 5056, 2470, 6067,
+	9763, 10152, 7374, 12540, 4234, 14148, 641, 14740, 15238, -4068, 15250, -905, 14507, 2037, 13127, 4574,
+	-1661, -5605, -590, -5749, 335, -5722, 1110, -5618, 3205, 12135, -86, 11654, -2912, 10380, -5101, 8540,
+	11997, -7019, 13945, -3452, 14789, 600, 14412, 4783, -4480, -873, -4523, -2336, -4200, -3826, -3507, -5258,
+	-5850, -6567, -3828, -7061, -1927, -6988, -297, -6451, -3638, -5801, -2160, -5860, -784, -5565, 408, -4962,
+	-4198, -5155, -3562, -6520, -2466, -7656, -1023, -8419, -8593, -1331, -7283, -3149, -5613, -4480, -3737, -5260,
+	3503, -5852, 5208, -3871, 6119, -1542, 6201, 858, 10384, -4185, 12262, -2239, 13469, 377, 13794, 3390,
+	-7717, 6585, -8983, 5281, -10020, 3637, -10714, 1694, -3453, 4207, -3490, 4516, -3874, 4962, -4662, 5367,
+	16891, 2854, 15719, 6377, 13772, 9416, 11237, 11804, 1778, 14689, -2323, 15016, -6411, 14060, -10063, 11877,
+	-4466, 8335, -6136, 7373, -7605, 6060, -8787, 4430, 733, -16514, 3201, -15686, 5326, -14347, 6976, -12628,
+	3212, -10251, 5105, -8943, 6554, -7124, 7391, -4961, 1336, -3579, 2144, -4613, 3575, -5391, 5518, -5655,
+	14629, 13772, 10775, 16881, 6276, 18792, 1517, 19391, 4686, -543, 5285, 167, 5610, 959, 5683, 1720,
+	-12152, -5013, -11057, -6586, -9703, -7817, -8213, -8666, -6254, -7767, -4526, -9543, -2193, -10840, 589, -11443,
+	-1582, -6844, 957, -6278, 3171, -4907, 4819, -2865, 8068, 330, 8947, 1959, 9417, 3998, 9312, 6329,
+	19407, 6045, 16986, 10630, 13456, 14246, 9186, 16638, -2568, -1620, -1578, -2366, -500, -2617, 472, -2409,
+	9632, -7838, 8755, -5830, 7623, -4527, 6515, -3893, -16180, -3631, -14225, -7083, -11490, -9733, -8266, -11410,
+	-2396, -4759, -1390, -4760, -469, -4612, 365, -4344, 993, 11933, -2610, 12309, -6330, 11523, -9768, 9550,
+	13175, -1766, 13021, 1442, 12105, 4470, 10512, 7140, -1524, 11001, -3500, 10531, -5399, 9611, -7095, 8252,
+	9041, -4643, 10749, -3052, 12099, -893, 12899, 1731, 1161, -7151, 2818, -6766, 4315, -5853, 5478, -4492,
+	-10265, 3255, -9996, 1228, -9310, -508, -8337, -1865, 444, -3162, 1647, -3387, 2950, -3131, 4164, -2370,
+	16003, 5869, 13554, 9666, 10183, 12437, 6290, 13976, -14922, -897, -14760, -4073, -13846, -7218, -12185, -10141,
+	6772, 4991, 4698, 6191, 2477, 6693, 334, 6513, -14082, -12261, -10104, -14144, -5956, -14668, -2097, -13882,
+	8703, 15622, 6040, 16471, 3326, 16858, 631, 16788, 643, -17522, 4689, -17066, 8404, -15504, 11459, -13011,
+	-7210, 18895, -9978, 16660, -12030, 14033, -13329, 11242, 10885, -4020, 11695, -1764, 11843, 753, 11250, 3310,
+	0, 0, 0, 0, 0, 0, 0, 0, 5993, 3955, 4973, 5332, 3647, 6472, 2066, 7307,
+	160, -1488, 801, -1336, 1354, -975, 1759, -443, -8068, -699, -7750, -2223, -7163, -3645, -6334, -4922,
+	1210, -6416, 2145, -5571, 2766, -4593, 3055, -3582, 31016, 3609, 30034, 9538, 27833, 15193, 24492, 20304,
+	-9694, -4951, -8179, -7324, -6062, -9236, -3486, -10530, -4390, 1291, -4693, 15, -4641, -1333, -4216, -2654,
+	-5477, 2148, -5120, 908, -4520, -83, -3766, -786, -5220, 4775, -6446, 3747, -7433, 2384, -8088, 751,
+	251, 4796, -535, 4355, -1125, 3813, -1515, 3234, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_48000_8[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, -6313, 21227, -9659, 17288, -11632, 12913, -12237, 8518,
+	3405, -12908, 5692, -10831, 7214, -8327, 7894, -5645, -4472, 4621, -4984, 3303, -5108, 2007, -4891, 844,
+	-2597, -12871, -183, -13217, 2225, -12994, 4486, -12228, -15972, 6877, -17321, 4090, -18035, 1069, -18092, -2022,
+	-3286, -555, -3422, -3212, -2521, -5876, -611, -8185, 3198, 1764, 1626, 1125, 524, -69, 61, -1604,
+	299, -4847, 1918, -5133, 3556, -4832, 5010, -3983, 8649, 3729, 8287, 5766, 7343, 7817, 5797, 9699,
+	-4588, -1074, -4342, -107, -4796, 776, -5850, 1284, -4831, 1400, -3918, -638, -2380, -2134, -446, -2922,
+	-8719, 6495, -9139, 3341, -8550, 371, -7090, -2092, -11654, -10293, -8503, -12911, -4756, -14499, -765, -14934,
+	1087, -3721, 2678, -3399, 4006, -2530, 4906, -1253, -5263, 3654, -7277, 1895, -8666, -592, -9197, -3574,
+	4169, -4008, 4561, -4422, 5304, -4582, 6243, -4363, 10553, -8525, 13396, -6309, 15721, -3314, 17313, 336,
+	-4375, -2586, -4170, -1864, -4502, -1311, -5229, -1138, -1864, 8106, -3855, 8015, -5762, 7284, -7366, 5988,
+	8614, 4321, 7097, 6168, 5224, 7595, 3098, 8543, 6838, -1423, 7696, 1205, 7555, 4015, 6409, 6642,
+	-8897, 3916, -8788, 748, -7609, -2130, -5531, -4368, -3721, 3151, -4135, 1952, -4281, 719, -4170, -510,
+	-2805, -3109, -2547, -2906, -2480, -2782, -2532, -2801, -2455, 2861, -4648, 3273, -6968, 2809, -9115, 1465,
+	-2989, -3158, -2856, -3017, -2861, -2970, -2951, -3062, 1246, 3087, 1453, 3505, 1500, 4077, 1340, 4742,
+	1648, 7759, 517, 10065, -1530, 11913, -4272, 13010, 2258, 11678, -220, 12158, -2729, 11933, -5038, 11039,
+	7977, 11214, 5876, 13820, 3087, 15773, -158, 16909, 913, 1084, -150, 1227, -1229, 936, -2169, 223,
+	-6131, 4685, -7757, 1744, -8313, -1451, -7825, -4552, 477, -197, 275, 193, -131, 413, -640, 377,
+	-17275, 2499, -17262, -1478, -16183, -5269, -14152, -8571, -7880, 2304, -6949, -564, -5194, -2852, -2854, -4343,
+	-7798, 1152, -6945, -781, -5648, -2215, -4116, -3064, 16058, -1541, 15354, 2039, 13766, 5200, 11472, 7719,
+	1606, -5839, 2729, -6325, 4197, -6370, 5814, -5851, -4913, -8550, -1231, -10389, 2849, -10824, 6826, -9815,
+	-1463, -668, -935, -25, -947, 864, -1580, 1729, 15672, -4392, 15903, -342, 14929, 3451, 12931, 6621,
+	12475, 9318, 9473, 12492, 5547, 14547, 1122, 15215, -14114, 2993, -14454, -333, -13893, -3594, -12498, -6526,
+	-1543, -2913, -1418, -4106, -881, -5335, 83, -6474, 6412, -6032, 7859, -2924, 8110, 518, 7111, 3860,
+	-923, -10626, 2, -11847, 1364, -12974, 3142, -13871, 7331, 3319, 6438, 5119, 5009, 6472, 3250, 7226,
+	4537, -1944, 5799, -852, 6692, 772, 7021, 2779, -1751, 3022, -3286, 2101, -4337, 686, -4775, -1015,
+	4683, -1461, 5554, -1772, 6775, -1683, 8177, -1040, 9897, 940, 9301, 4311, 7697, 7311, 5260, 9640,
+	-3737, -8446, -1331, -9142, 1100, -9240, 3411, -8786, 11092, 1117, 9684, 3417, 7744, 5115, 5497, 6093,
+	-8556, 5811, -9772, 2198, -9716, -1585, -8408, -5118, -9423, -1340, -9298, -4085, -8202, -6651, -6257, -8695,
+	4715, -6828, 4190, -5621, 3461, -4768, 2642, -4287, 7344, -8847, 9323, -7094, 10860, -4882, 11843, -2334,
+	-1832, -6311, 22, -4956, 1242, -3063, 1674, -877, 9365, 2460, 8531, 3239, 7983, 3719, 7805, 4135,
+	-8465, -1429, -8101, -3066, -7361, -4637, -6254, -6035, -13560, -7026, -11621, -9532, -9192, -11348, -6524, -12385,
+	12327, -15607, 15950, -11551, 18304, -6560, 19143, -1042, -1459, -12510, 2901, -13488, 7466, -13009, 11749, -11074,
+	-3562, -2472, -3579, -2069, -3828, -1947, -4143, -2173, -1355, -2930, -471, -2940, 353, -2667, 1022, -2160,
+	2097, -208, 2359, -85, 2706, 207, 3059, 722, 16077, -14662, 17431, -10208, 17643, -5890, 16863, -1978,
+	-14100, 6438, -15143, 2747, -15080, -987, -13978, -4419, 1982, -6644, 3685, -7378, 5668, -7448, 7662, -6789,
+	-8806, 15385, -12870, 12667, -15908, 8889, -17660, 4456, 26391, -97, 26043, 6202, 23918, 12168, 20207, 17273,
+	10298, 4527, 9963, 5952, 9453, 7440, 8715, 8990, 2100, 2118, 264, 2576, -1664, 2382, -3470, 1531,
+	-154, 4214, -528, 2905, -345, 1651, 338, 638, 288, -14140, 3281, -13513, 6022, -12167, 8320, -10187,
+	2932, 6649, 1280, 7611, -594, 8067, -2521, 7974, 17873, -2891, 18500, 1811, 17684, 6560, 15475, 10896,
+	5265, -16938, 7463, -14452, 8803, -11750, 9307, -9109, 9310, 555, 9533, 1649, 9602, 2869, 9460, 4179,
+	9316, 578, 9139, 2757, 8353, 4957, 6926, 6979, 1665, -6552, 2230, -5651, 2432, -4794, 2330, -4108,
+	-7169, -1193, -7398, -3667, -6801, -6124, -5430, -8295, 5165, -5981, 5080, -3727, 4266, -1884, 2950, -654,
+	-4049, -662, -4098, -1879, -3801, -3086, -3170, -4180, 0, 0, 0, 0, 0, 0, 0, 0,
+	6898, 7142, 4333, 9044, 1309, 10115, -1921, 10256, 3395, -11648, 5995, -10444, 8221, -8661, 9944, -6409,
+	1719, -1104, 2066, -641, 2304, -47, 2382, 654, 12822, -4558, 11870, -2169, 10527, -396, 9019, 715,
+	-6309, 4884, -6983, 3549, -7386, 2127, -7506, 671, -5442, 7533, -6322, 6619, -7045, 5625, -7612, 4581,
+	3737, 10, 4141, 1283, 4109, 2704, 3603, 4129, -7208, 333, -7373, -953, -7281, -2310, -6908, -3678,
+	-655, 1286, -1181, 1345, -1739, 1221, -2269, 909, -13098, -6796, -11183, -9299, -8772, -11284, -6003, -12650,
+	709, -1357, 1096, -1179, 1425, -889, 1663, -508,
+};
+
+static const int16_t reference_48000_9[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, -24972, -4761, -21310, -9661, -16671, -13155, -11526, -15065,
+	4562, -11492, 6622, -9195, 7872, -6517, 8246, -3716, -3509, -826, -3546, -1843, -3314, -2880, -2812, -3868,
+	212, -6471, 1347, -6656, 2533, -6610, 3714, -6321, 42, -17673, 3657, -17972, 7336, -17334, 10805, -15768,
+	-7050, -2451, -6029, -4387, -4546, -5915, -2753, -6939, -4131, 5044, -5289, 4311, -6303, 3301, -7104, 2044,
+	-4665, 10318, -7503, 8652, -9752, 6305, -11271, 3484, 8323, -5147, 9781, -3627, 10859, -1663, 11417, 632,
+	1849, -333, 1850, -1018, 2226, -1666, 2953, -2134, 4420, -18651, 6661, -17323, 8536, -15739, 10031, -14006,
+	-5464, 11168, -8021, 9854, -10290, 7922, -12111, 5427, -8304, -3453, -6476, -4288, -4711, -4477, -3208, -4115,
+	-7882, -2617, -7597, -3374, -7368, -4167, -7144, -5068, 1863, -10546, 4852, -8615, 7056, -5869, 8264, -2586,
+	96, 6348, -1523, 6422, -3232, 6123, -4944, 5394, 12406, -11889, 15272, -7880, 16732, -3265, 16701, 1469,
+	-6974, -11857, -5501, -13438, -3615, -14985, -1236, -16365, -2162, -6994, -1126, -7344, 15, -7536, 1233, -7533,
+	-1279, -9990, 756, -11428, 3306, -12345, 6217, -12578, -22804, 6767, -24656, 1397, -25140, -4364, -24194, -10146,
+	1894, 3, 1785, 1391, 1179, 2742, 95, 3893, -20, -13221, 3121, -12173, 5752, -10228, 7594, -7597,
+	7545, -4595, 8185, -3891, 8789, -3071, 9335, -2123, -8117, 3352, -8684, 454, -8241, -2428, -6864, -4952,
+	-131, -2193, 912, -2931, 2264, -3193, 3725, -2874, -10386, -9143, -8736, -10928, -6777, -12420, -4546, -13566,
+	-520, 7929, -1560, 8419, -2840, 8681, -4290, 8642, -9352, 3692, -9965, 2327, -10424, 751, -10629, -1036,
+	-579, 6283, -749, 6373, -934, 6683, -1256, 7203, 1359, 145, 1039, 568, 640, 870, 201, 1040,
+	3278, -9633, 5539, -9974, 8007, -9626, 10447, -8534, -16901, -5426, -14364, -9826, -10627, -13293, -6017, -15494,
+	-13501, -3993, -11879, -6128, -9943, -7751, -7845, -8834, 18298, 7936, 16572, 11583, 14081, 14707, 10999, 17149,
+	-8615, 8864, -11006, 6676, -12699, 3905, -13569, 794, -11097, 14231, -15178, 11985, -18630, 8598, -21130, 4278,
+	-14078, 1657, -14699, -1762, -14416, -5316, -13217, -8748, 4520, -20449, 9330, -18700, 13533, -15773, 16830, -11877,
+	-46, 11804, -3458, 11783, -6706, 10791, -9519, 8944, 11787, 3052, 10431, 6197, 8247, 8808, 5433, 10667,
+	-1445, 6175, -3426, 6564, -5557, 6380, -7676, 5589, 3071, 6241, 1968, 6807, 801, 7125, -358, 7202,
+	3926, -7478, 5613, -6017, 6787, -4190, 7381, -2178, 18093, -2347, 19217, 1162, 19509, 5061, 18844, 9120,
+	2037, 1084, 2631, 1657, 3059, 2520, 3219, 3620, 18071, -3793, 20459, -343, 21890, 3987, 22081, 8877,
+	7980, -3914, 7485, -3313, 7087, -3049, 6904, -3035, -8566, -8452, -5947, -10062, -2988, -10859, 54, -10778,
+	-192, 7999, -1499, 7032, -2401, 5849, -2871, 4596, -16000, -321, -15114, -4031, -13280, -7236, -10716, -9691,
+	-994, -943, 48, -2093, 1428, -2707, 2929, -2724, -4420, -5752, -2910, -8016, -586, -9726, 2329, -10622,
+	-10321, -2917, -8003, -5377, -5168, -6936, -2121, -7509, 5844, 9021, 5448, 8354, 5617, 7891, 6225, 7865,
+	2777, -16255, 7115, -14751, 10912, -11997, 13793, -8183, -5267, 17867, -8289, 14415, -10055, 10465, -10503, 6422,
+	10632, -2760, 10670, -993, 10351, 664, 9728, 2133, 9093, 9044, 5752, 10405, 2158, 10725, -1358, 9952,
+	-11621, -13133, -8451, -15030, -4989, -16121, -1445, -16374, 8743, 718, 9261, 2769, 9202, 5051, 8498, 7381,
+	11044, -7842, 13370, -4368, 14615, -247, 14604, 4175, -6516, 3350, -6782, 2382, -6861, 1422, -6767, 514,
+	12954, -4594, 13506, -2562, 13753, -475, 13687, 1627, -4253, -1008, -3116, -3095, -1234, -4638, 1166, -5398,
+	21876, 3449, 20876, 7438, 19021, 11122, 16409, 14288, 3053, -20755, 7636, -20619, 12265, -19311, 16608, -16811,
+	11509, 3786, 11998, 6025, 11939, 8586, 11220, 11306, 903, 4858, -1269, 5644, -3754, 5634, -6266, 4728,
+	11715, -859, 12321, 2420, 11753, 5940, 9952, 9260, -4711, 2880, -4991, 1758, -4984, 630, -4704, -427,
+	-9870, -9417, -7825, -10811, -5738, -11733, -3710, -12260, -4550, 4479, -4421, 2595, -3662, 1007, -2429, -86,
+	-7469, 9086, -8460, 6832, -8752, 4590, -8417, 2567, 8917, 10499, 5839, 11308, 2875, 11247, 262, 10433,
+	19348, 12390, 15525, 16729, 10618, 19833, 5041, 21430, -4465, 11249, -5820, 10134, -6906, 8884, -7727, 7561,
+	-7913, -2017, -6077, -3236, -4067, -3613, -2211, -3151, 9633, 6660, 8542, 9087, 6770, 11239, 4422, 12926,
+	18963, -2785, 18975, 254, 18521, 3184, 17644, 5945, -636, 14344, -4419, 13774, -7937, 12101, -10850, 9434,
+	815, 4814, 379, 5782, -567, 6672, -1975, 7271, 7001, 9079, 4918, 11135, 2234, 12591, -862, 13276,
+	3995, -4416, 4220, -3902, 4384, -3482, 4543, -3160, -5416, -697, -4398, -2697, -2861, -4125, -1047, -4875,
+	-17905, 6381, -18443, 2405, -18137, -1452, -17075, -5027, -1010, -936, -1544, -2441, -1415, -4252, -513, -6107,
+	1272, 3124, -288, 3826, -2159, 3815, -4044, 2985, 1655, -5119, 2576, -4282, 3203, -3334, 3549, -2365,
+	10648, -11869, 13211, -9763, 15225, -6937, 16470, -3574, -3266, -8163, 294, -8053, 3598, -6758, 6282, -4425,
+	-9866, 4543, -10296, 2713, -10394, 895, -10187, -860, 5648, -4195, 6368, -2538, 6569, -776, 6251, 927,
+	-6948, 2281, -6711, 960, -6245, -155, -5635, -1039, 4017, -3192, 4691, -2272, 5133, -1203, 5312, -49,
+	-954, 9815, -3012, 8909, -4723, 7600, -6018, 5996, -4178, 8678, -6061, 7317, -7540, 5571, -8542, 3556,
+	-1182, -8175, 319, -8382, 1855, -8310, 3376, -7952, 9064, 1952, 9714, 3348, 10122, 5049, 10197, 7011,
+	-503, -1256, -569, -650, -922, -189, -1486, 31, 957, 2295, 515, 2559, -10, 2736, -600, 2798,
+	-4419, 16346, -7835, 14904, -10806, 12738, -13179, 9981, -3606, -3936, -2571, -4329, -1541, -4435, -595, -4281,
+	3716, 5192, 2874, 6096, 1779, 6838, 471, 7345, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_48000_10[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, -18208, -13635, -13342, -15067, -8639, -15132, -4458, -14030,
+	3355, -10781, 5246, -8814, 6418, -6504, 6815, -4084, -3706, -5737, -2875, -6157, -2031, -6526, -1133, -6857,
+	11739, -7201, 13056, -5179, 13734, -2879, 13721, -531, 1910, 3666, 2195, 3997, 2308, 4626, 2118, 5445,
+	1086, -2032, 2551, -2873, 4302, -3015, 6040, -2404, -763, -10246, 1324, -9914, 3299, -9096, 5035, -7823,
+	-4514, 6831, -5346, 6610, -6368, 6245, -7515, 5617, 14895, 8169, 12905, 10304, 10580, 11863, 8108, 12786,
+	-6793, 10961, -8081, 8622, -8420, 6368, -7980, 4536, -5960, -15067, -2791, -16512, 710, -17038, 4242, -16601,
+	1594, -11956, 6333, -12401, 11174, -11170, 15512, -8286, -5309, 2649, -5867, -957, -5110, -4505, -3153, -7519,
+	18072, 144, 17686, 4080, 16088, 7706, 13452, 10623, -8272, -2254, -9246, -3501, -9785, -5348, -9651, -7597,
+	9205, -5264, 11848, -3667, 14016, -992, 15281, 2569, -14209, -12541, -10896, -15726, -6737, -17848, -2124, -18662,
+	-7139, -10081, -4524, -12301, -1339, -13486, 1998, -13509, 7828, 2396, 6340, 4719, 4088, 6559, 1250, 7658,
+	-2403, -5129, 155, -4283, 2112, -2672, 3265, -576, -5798, -1384, -4520, -2421, -2987, -3016, -1343, -3115,
+	-12941, -10765, -9397, -12589, -5648, -13157, -2136, -12507, 13414, 2076, 13117, 5556, 11726, 8943, 9295, 11864,
+	6658, 4490, 4807, 6511, 2367, 7956, -478, 8656, -13234, -6114, -11409, -8970, -8962, -11155, -6147, -12550,
+	-11660, -9024, -8846, -12307, -5119, -14573, -884, -15578, -3293, 3225, -1840, 3141, -530, 3909, 274, 5401,
+	-4682, -4507, -4396, -4188, -4443, -3973, -4747, -4003, 5172, 8478, 4801, 9040, 4181, 9721, 3233, 10400,
+	13790, -22363, 19619, -18680, 23879, -13380, 26139, -7139, -5396, 14927, -9005, 14071, -12429, 12098, -15294, 9092,
+	-5377, -1007, -4361, -1620, -3232, -1763, -2185, -1425, 3215, -3259, 5538, -3498, 8026, -2943, 10434, -1540,
+	-7888, 373, -8926, -1246, -9587, -3299, -9697, -5700, 7142, -18438, 12159, -15328, 16015, -10823, 18306, -5341,
+	3798, 7885, 3087, 7993, 2607, 8042, 2318, 8192, -10656, 4398, -12645, 2408, -14248, -257, -15222, -3523,
+	3740, -4564, 6223, -4015, 8531, -2639, 10401, -530, 13546, -4981, 14082, -419, 13006, 4054, 10449, 7847,
+	1888, 8149, 1222, 7077, 1008, 6084, 1160, 5327, 7705, -5264, 7600, -2831, 6863, -936, 5810, 292,
+	4041, 11250, 310, 14256, -4353, 15963, -9465, 16130, 4482, -14579, 8153, -13969, 11754, -12154, 14838, -9175,
+	-5292, -777, -5033, -2839, -4051, -4567, -2557, -5730, -6254, 10720, -9400, 9081, -11873, 6389, -13345, 2955,
+	0, 0, 0, 0, 0, 0, 0, 0, 4667, -1088, 5259, 301, 5458, 1868, 5218, 3507,
+	-8156, -8497, -5981, -10124, -3462, -11203, -739, -11656, -782, -3004, -164, -3119, 485, -3112, 1144, -2971,
+	-634, -11355, 1763, -10789, 3867, -9726, 5580, -8273, 5299, 5739, 3990, 6790, 2477, 7539, 832, 7949,
+	-2857, -7084, -1570, -7174, -381, -7024, 667, -6682, 21930, -7672, 23238, -2471, 23250, 2902, 21967, 8115,
+	-3228, 2000, -3470, 922, -3384, -157, -2985, -1144, -1706, 7705, -3209, 7030, -4513, 6080, -5570, 4907,
+	13613, -1678, 14047, 1749, 13564, 5255, 12162, 8583, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_48000_11[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, -19339, 12691, -19339, 6921, -17779, 1814, -15003, -2238,
+	3424, -12581, 5636, -10471, 7071, -7959, 7660, -5297, 4207, 12155, 1960, 12748, -363, 12895, -2662, 12589,
+	6241, 11655, 4101, 12489, 1892, 12787, -232, 12565, 91, 6519, -1227, 6132, -2353, 5440, -3215, 4520,
+	7726, -9256, 9530, -6756, 10543, -3905, 10704, -954, 3516, 3891, 2442, 2793, 1961, 1538, 2065, 341,
+	3810, 5368, 1623, 5236, -229, 4471, -1584, 3246, -803, 13186, -4174, 12015, -7019, 9966, -9105, 7248,
+	-16154, -2024, -15037, -4927, -13391, -7395, -11366, -9337, -4597, 2954, -5027, 523, -4598, -1915, -3342, -4076,
+	-4585, 1421, -3797, 69, -2702, -883, -1447, -1383, 7974, 4153, 7212, 5515, 6253, 6758, 5099, 7856,
+	12826, 21936, 7970, 25349, 2151, 27540, -4294, 28225, 8431, -9121, 11606, -6675, 13913, -3341, 15127, 567,
+	17964, 4389, 16862, 8223, 14861, 11688, 12088, 14564, 2905, -1152, 2552, -594, 2144, -301, 1798, -252,
+	-9714, 5250, -10523, 2298, -10425, -573, -9544, -3095, -9076, 3502, -11399, 1030, -12917, -2289, -13352, -6172,
+	-3310, -2020, -2045, -2193, -882, -2013, 103, -1541, 4113, 4220, 2812, 4329, 1594, 4115, 538, 3610,
+	-2314, 5502, -2908, 5161, -3512, 4846, -4174, 4519, -724, 5500, -1141, 4995, -1472, 4501, -1730, 4020,
+	-1916, -9212, -734, -10334, 889, -11253, 2899, -11812, 11385, -4288, 12423, -1967, 12800, 653, 12431, 3351,
+	-286, 12689, -1977, 11847, -3278, 10951, -4280, 10134, 5786, 6614, 4210, 6872, 2724, 6759, 1407, 6329,
+	-7143, -15440, -2636, -15876, 1571, -15025, 5124, -13096, -6344, 6375, -5889, 4979, -5111, 4084, -4236, 3765,
+	6167, -7480, 7995, -6003, 9321, -4030, 10002, -1756, 5708, 9571, 4160, 11244, 2169, 12560, -166, 13403,
+	-385, 8064, -1262, 8687, -2374, 9267, -3754, 9733, 9448, 7392, 7926, 10005, 5667, 12234, 2782, 13860,
+	-5993, -1682, -4202, -3100, -2197, -3801, -219, -3796, -9047, -1758, -8858, -2846, -8515, -3899, -8021, -4894,
+	-2643, -5568, -1428, -4570, -724, -3345, -559, -2084, 3888, -5681, 4306, -4238, 4254, -2975, 3867, -2028,
+	4909, -8955, 6853, -8375, 8631, -7367, 10157, -5996, 3169, -2869, 3552, -2159, 3770, -1510, 3889, -957,
+	-7811, -521, -6641, -229, -5939, 354, -5735, 1026, 10963, -2874, 11329, 254, 10773, 3312, 9373, 6037,
+	13501, 10509, 10345, 13293, 6613, 14988, 2680, 15499, -6171, -10820, -3256, -11920, -266, -12240, 2601, -11828,
+	-5014, -5437, -2988, -6601, -710, -7022, 1555, -6663, -9650, -5999, -8223, -7364, -6711, -8357, -5206, -9028,
+	-3142, -10518, 716, -10777, 4449, -9806, 7676, -7714, -110, -973, 835, -316, 1497, 686, 1771, 1929,
+	3276, -44, 3487, 1368, 3115, 2743, 2217, 3867, -476, -4228, -299, -3762, -243, -3428, -235, -3240,
+	7440, -22223, 12164, -19115, 15818, -14867, 18110, -9845, -1633, 9745, -3937, 8041, -5568, 5775, -6392, 3175,
+	-4566, 2096, -5376, 978, -5788, -323, -5787, -1658, -10392, -2518, -9920, -5221, -8610, -7585, -6654, -9343,
+	7243, -4758, 8709, -2810, 9600, -463, 9815, 2100, -3710, 7213, -4866, 5689, -5539, 3899, -5662, 1997,
+	-2219, 7239, -3078, 6963, -3913, 6665, -4767, 6326, -5930, -7452, -5414, -7897, -4884, -8322, -4342, -8743,
+	-8996, 1985, -9042, -883, -8135, -3536, -6420, -5667, -10010, -23333, -3882, -25640, 2714, -26059, 9170, -24532,
+	0, 0, 0, 0, 0, 0, 0, 0, 4552, -2404, 5015, -1058, 5086, 391, 4739, 1829,
+	614, -13264, 3543, -12403, 6089, -10855, 8085, -8757, 6177, 24592, 582, 24549, -4691, 23203, -9332, 20703,
+	1207, -18, 968, 393, 616, 677, 199, 807, -15901, 1837, -15855, -1183, -15187, -4111, -13936, -6807,
+	5917, -12494, 9226, -10682, 11974, -8019, 13947, -4680, 1448, 2103, 883, 2385, 276, 2522, -337, 2512,
+	5990, -10634, 8145, -8792, 9802, -6529, 10883, -3973, -11639, -16905, -7545, -19059, -3075, -20153, 1486, -20135,
+	1718, -7451, 4190, -7052, 6513, -5888, 8460, -4024, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_48000_12[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, -19339, 12691, -19339, 6921, -17779, 1814, -15003, -2238,
+	4951, -11741, 7024, -9356, 8270, -6593, 8625, -3713, -5988, 481, -6040, -782, -5829, -2018, -5376, -3179,
+	9920, 9134, 7567, 11060, 4860, 12284, 2010, 12748, -9748, -6332, -7518, -9095, -4549, -11003, -1161, -11874,
+	-1905, -1634, -2358, -2315, -2559, -3303, -2380, -4494, -329, -7468, 1547, -7275, 3333, -6558, 4870, -5348,
+	-215, -11131, 2218, -11270, 4665, -10735, 6912, -9538, 4116, -5340, 5198, -4994, 6235, -4391, 7165, -3557,
+	9335, 13463, 4790, 13927, 596, 13002, -2847, 10919, 2260, -5160, 2585, -4600, 2757, -4147, 2857, -3834,
+	5616, -10036, 8651, -8505, 11239, -6028, 13078, -2754, -13923, 4719, -13751, 1898, -13017, -504, -11937, -2399,
+	-15470, 2059, -15503, -2541, -14068, -6893, -11332, -10542, 5226, -8211, 6841, -5836, 7686, -3129, 7692, -325,
+	-13560, -10661, -11137, -13122, -8338, -14959, -5333, -16143, -2156, 770, -2111, -948, -1398, -2469, -149, -3576,
+	18309, 17496, 14918, 21611, 10381, 24854, 4974, 26886, -5235, 3253, -5085, 1814, -4558, 657, -3794, -126,
+	-14980, -11294, -11489, -14072, -7475, -15737, -3300, -16214, -5795, 2021, -5639, 119, -4994, -1551, -3976, -2888,
+	-3088, -4277, -1718, -5145, -55, -5573, 1747, -5466, -5337, 12671, -8702, 11156, -11595, 8784, -13800, 5692,
+	-5157, -11003, -3112, -11172, -1126, -10909, 694, -10235, 11006, -10125, 15442, -7332, 18953, -3122, 21117, 2170,
+	2641, 3191, 1449, 3343, 310, 3097, -647, 2489, 13604, -6172, 16168, -2792, 17751, 1375, 18137, 6017,
+	8962, -2514, 10626, -775, 11844, 1607, 12393, 4488, -10205, -7732, -8806, -9876, -6825, -11669, -4371, -12932,
+	4253, 8228, 3849, 8400, 3531, 8739, 3192, 9282, 1985, -13390, 4727, -12282, 6943, -10606, 8529, -8577,
+	-1274, -1723, 232, -1793, 1706, -1295, 2961, -261, 11480, 9484, 8443, 10644, 5411, 10901, 2647, 10333,
+	-4511, 9269, -6090, 8424, -7366, 7283, -8296, 5968, 5490, -8477, 7059, -6407, 7931, -4080, 8085, -1717,
+	-13081, -1591, -12802, -3808, -12056, -6015, -10834, -8094, -8470, 8850, -9311, 7084, -9805, 5418, -10054, 3904,
+	8015, 3662, 6723, 6242, 4665, 8289, 2056, 9585, -172, 5132, -1695, 4693, -3051, 3880, -4152, 2749,
+	4309, -5223, 4187, -4888, 4102, -4823, 4182, -4984, 6976, -4796, 8592, -3568, 9896, -1830, 10738, 316,
+	333, 2255, -1140, 1618, -2344, 551, -3177, -867, -8737, 1937, -7866, -138, -6551, -1806, -4923, -2980,
+	-7528, 3702, -8942, 2632, -10178, 1118, -11086, -801, -3229, -5414, -2689, -6578, -1777, -7632, -540, -8467,
+	11244, -5438, 13041, -3823, 14650, -1513, 15790, 1484, 1340, 11677, -831, 11406, -2881, 10708, -4727, 9610,
+	5876, -7902, 6481, -5781, 6415, -3879, 5849, -2390, -12115, 9247, -13663, 7164, -14674, 4723, -15055, 2106,
+	16397, 3065, 14734, 6075, 12497, 8436, 9912, 10048, -2630, -15462, 1347, -14532, 4721, -12557, 7223, -9805,
+	4603, -6741, 6464, -5709, 8038, -4118, 9153, -2064, -1267, 3354, -1954, 3321, -2674, 3150, -3390, 2830,
+	1096, -3319, 421, -3479, 13, -4025, -7, -4806, 9957, -12348, 13244, -9295, 15403, -5385, 16233, -1037,
+	-3687, 2325, -5528, 1419, -7082, -300, -8039, -2709, 16907, 22375, 11138, 25799, 4679, 27514, -1931, 27402,
+	7674, -6473, 9277, -3978, 10182, -1249, 10397, 1544, 704, -7793, 1780, -8411, 3244, -8863, 5059, -8971,
+	8202, 4834, 6961, 7557, 4861, 9809, 2097, 11332, -16298, -1761, -15493, -5629, -13756, -9225, -11174, -12331,
+	7432, 582, 8103, 3143, 7946, 5871, 6948, 8510, -1427, 5328, -1500, 4265, -1196, 3387, -612, 2814,
+	685, -788, 163, -852, -292, -1197, -560, -1782, 1253, -5554, 2050, -5350, 2834, -4991, 3568, -4461,
+	3184, -3821, 2826, -3565, 2450, -3495, 2108, -3622, -4578, -3007, -3285, -4543, -1631, -5582, 199, -6066,
+	5939, 1186, 5985, 1681, 5977, 2329, 5838, 3092, -10930, -893, -9996, -2008, -8962, -2752, -7954, -3126,
+	-1339, -8065, 721, -7654, 2496, -6748, 3872, -5471, -4335, -2320, -3287, -2831, -2183, -3014, -1122, -2870,
+	-3526, 759, -4237, -320, -4598, -1606, -4568, -2987, 2127, 2704, 1338, 3548, 233, 4188, -1124, 4512,
+	1900, 5710, 241, 6566, -1673, 6774, -3585, 6289, 532, 9944, -1940, 12104, -5196, 13472, -8968, 13819,
+	-10613, -1834, -8881, -3973, -6744, -5288, -4516, -5725, -10496, 11395, -12610, 9679, -14325, 7468, -15500, 4882,
+	-1031, -2728, -595, -3071, -56, -3341, 579, -3509, 8259, 2561, 7181, 3481, 6165, 4040, 5309, 4342,
+	6547, 13588, 5057, 15711, 2878, 17687, 27, 19284, -9971, -15524, -7095, -16651, -4174, -17094, -1392, -16905,
+	9507, 4409, 7984, 5230, 6595, 5555, 5493, 5519, -1186, -2319, 537, -3260, 2551, -3416, 4543, -2730,
+	-1414, -3203, -503, -3260, 373, -3041, 1118, -2561, 7239, -8184, 8241, -6659, 8928, -5131, 9374, -3659,
+	5646, 7302, 3393, 9122, 690, 10143, -2181, 10272, 7259, -2583, 8119, -1597, 8893, -347, 9494, 1186,
+	0, 0, 0, 0, 0, 0, 0, 0, 10721, -1521, 9410, 387, 7816, 1673, 6145, 2314,
+	-9808, 4355, -10495, 1671, -10463, -1097, -9712, -3761, 5107, -8799, 7173, -7412, 8862, -5546, 10065, -3301,
+	10568, -7411, 12487, -5029, 13834, -2158, 14484, 1055, -2336, 5529, -3684, 5452, -5083, 4998, -6422, 4148,
+	5637, -1611, 5602, -263, 5247, 997, 4609, 2092, -8357, -2365, -7772, -3610, -7049, -4709, -6226, -5664,
+	4946, 13703, 1638, 14132, -1614, 13773, -4622, 12675, 284, 5455, -998, 5314, -2199, 4889, -3260, 4208,
+	10588, -8706, 12254, -6272, 13299, -3513, 13664, -596, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_48000_13[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, 12705, 12775, 9353, 13908, 6134, 14196, 3251, 13767,
+	2960, -12438, 5100, -10504, 6521, -8189, 7158, -5726, -306, 2326, -669, 2645, -1221, 2877, -1927, 2943,
+	-4267, 6382, -5452, 5390, -6354, 4221, -6967, 2956, 3010, -1350, 3995, -870, 4868, -18, 5507, 1166,
+	-2328, 11630, -4489, 10647, -6325, 9273, -7770, 7606, 1611, -6076, 2992, -6055, 4424, -5689, 5813, -4958,
+	-19997, -8865, -18152, -12534, -15596, -15736, -12463, -18332, 4906, -2263, 4957, -1931, 5081, -1631, 5287, -1319,
+	8040, 6860, 5729, 8948, 2923, 10327, -169, 10890, 7916, 15129, 4735, 16347, 1421, 16910, -1898, 16825,
+	-2874, 11327, -4271, 10515, -5461, 9589, -6458, 8600, 2746, -9331, 4685, -7945, 6102, -6149, 6916, -4122,
+	15673, -3912, 17162, -880, 17982, 2599, 18012, 6358, -4736, -10716, -1953, -11698, 1038, -11943, 4034, -11405,
+	-1930, 3711, -2952, 2726, -3599, 1501, -3822, 162, 11276, -8716, 12396, -5937, 12812, -3091, 12554, -358,
+	15452, -12299, 18155, -8669, 19932, -4425, 20644, 180, 4961, 7436, 4057, 7686, 3194, 7863, 2367, 7983,
+	-293, 1911, -1683, 1609, -2935, 809, -3893, -433, 5922, -18591, 8667, -17143, 11108, -15316, 13201, -13164,
+	2905, -8808, 4927, -7973, 6666, -6629, 7990, -4879, 4298, -23939, 9832, -22169, 14738, -19100, 18707, -14941,
+	6598, -9015, 8177, -8050, 9646, -6791, 10947, -5241, -208, -13371, 3242, -13202, 6521, -12104, 9377, -10170,
+	1664, -728, 1808, -340, 1893, 75, 1912, 515, -9620, 4496, -10203, 1927, -10090, -634, -9328, -2999,
+	-2334, -661, -3149, -1337, -3780, -2364, -4111, -3689, 3686, 7445, 1733, 7558, -77, 7196, -1640, 6435,
+	-14510, -8471, -12664, -11488, -10139, -14059, -7057, -16022, 5767, -3984, 5858, -2870, 5727, -1892, 5441, -1091,
+	10680, 9065, 8352, 11179, 5597, 12636, 2609, 13352, 1623, -15806, 5997, -15313, 10116, -13638, 13663, -10896,
+	-5556, 3252, -6762, 1394, -7334, -854, -7158, -3275, 364, 5975, -1590, 6004, -3483, 5455, -5151, 4370,
+	-10406, -5010, -8979, -6987, -7183, -8536, -5148, -9590, -13866, -9812, -12340, -13140, -9925, -16184, -6692, -18693,
+	13559, 824, 12499, 4320, 10588, 7334, 8005, 9669, 6439, 5950, 5219, 7931, 3397, 9618, 1056, 10831,
+	-9247, 1182, -9555, -1147, -9212, -3540, -8213, -5805, -3687, -4589, -1726, -5520, 435, -5794, 2594, -5378,
+	4853, 2330, 3583, 3381, 2119, 3960, 614, 4042, -1342, 9438, -2926, 8583, -4208, 7463, -5149, 6172,
+	6272, 5994, 4515, 7366, 2437, 8202, 208, 8426, -2998, 20087, -8183, 18917, -12940, 16420, -16932, 12741,
+	-8312, -6829, -7000, -7917, -5560, -8765, -4030, -9362, 13741, 12063, 11052, 15353, 7551, 17971, 3423, 19711,
+	-111, -9472, 1539, -9565, 3239, -9368, 4936, -8859, 9958, -669, 9598, 2327, 8375, 5090, 6387, 7378,
+	-8232, -7455, -6433, -8831, -4406, -9769, -2259, -10233, -10884, -4630, -10756, -7297, -9910, -10155, -8250, -12992,
+	-11702, 7112, -12827, 4843, -13466, 2416, -13605, -58, -9244, 5122, -10351, 4090, -11430, 2729, -12366, 1004,
+	-7456, -7040, -5748, -9002, -3531, -10519, -926, -11456, -16009, -2711, -15013, -6415, -13126, -9767, -10468, -12545,
+	-14274, -4099, -12841, -7420, -10576, -10227, -7665, -12304, 5333, -8541, 7583, -7040, 9358, -4933, 10498, -2378,
+	-2875, -9356, -1592, -9203, -498, -8951, 437, -8672, 20622, 2438, 19636, 6936, 17618, 11060, 14703, 14566,
+	2388, 9342, 183, 10415, -2379, 10900, -5128, 10694, -1105, -6072, -239, -5409, 281, -4672, 472, -3986,
+	-4276, -1287, -4669, -2458, -4717, -3852, -4342, -5364, -20062, -9656, -17623, -15278, -13629, -20114, -8354, -23742,
+	1110, -9233, 2510, -8798, 3780, -8179, 4908, -7409, -7568, -460, -6774, -2288, -5538, -3739, -4003, -4711,
+	-1849, 3451, -1767, 3067, -1648, 2852, -1555, 2794, -2621, 6233, -3351, 5088, -3717, 3938, -3762, 2885,
+	10284, -1758, 11347, 553, 11804, 3240, 11543, 6123, 3365, 718, 3307, 1673, 2959, 2611, 2331, 3444,
+	-12973, -10567, -9809, -13552, -5937, -15610, -1629, -16569, -5284, -20445, -154, -20734, 4780, -19744, 9206, -17597,
+	-5187, 12728, -7814, 11535, -10141, 9765, -12032, 7503, 7394, -21186, 11874, -18013, 15258, -13883, 17345, -9147,
+	-22088, -4928, -20001, -10225, -16669, -14769, -12344, -18276, -6802, -1705, -6521, -3299, -5852, -4853, -4800, -6271,
+	-3132, 3954, -3573, 3082, -3753, 2248, -3723, 1524, -3720, 11144, -6603, 9727, -8986, 7546, -10667, 4773,
+	-3472, 1841, -4127, 1485, -4751, 930, -5287, 179, -850, 6811, -2729, 5807, -4100, 4291, -4832, 2467,
+	2645, 14086, -974, 13983, -4396, 12955, -7386, 11095, -9249, -1855, -8706, -4146, -7577, -6221, -5945, -7930,
+	-3919, 10942, -6456, 9108, -8318, 6744, -9414, 4072, -23078, 3774, -23535, -1761, -22610, -7296, -20331, -12474,
+	6266, -3653, 6905, -2216, 7232, -626, 7202, 1048, 2189, 3225, 1856, 4267, 1151, 5232, 111, 6003,
+	-4760, 5651, -5627, 4024, -5998, 2330, -5899, 707, 1131, 13798, -2048, 13760, -5140, 12976, -7968, 11486,
+	-783, -6905, 1500, -7050, 3734, -6505, 5718, -5318, -9543, -7560, -7678, -9056, -5603, -10097, -3428, -10666,
+	-284, -2098, -191, -1410, -417, -832, -890, -470, -2239, 714, -2806, 184, -3222, -584, -3399, -1538,
+	6514, 5999, 5458, 7538, 4028, 8848, 2284, 9839, -8797, -4440, -7335, -5971, -5611, -7073, -3744, -7704,
+	-4373, 5127, -5682, 4461, -6888, 3446, -7892, 2098, -2162, 6570, -3258, 6504, -4415, 6225, -5584, 5705,
+	-4020, -781, -4036, -1937, -3726, -3111, -3089, -4212, 12396, 1433, 12880, 4406, 12545, 7612, 11323, 10809,
+	-8906, 2176, -9871, 379, -10422, -1792, -10429, -4225, 524, -10733, 3327, -10766, 6178, -9993, 8834, -8401,
+	18052, -370, 16521, 3136, 14306, 5931, 11658, 7892, -7901, -8000, -6184, -9358, -4253, -10332, -2196, -10897,
+	-1411, -11923, 1246, -11858, 3825, -11177, 6178, -9913, -4400, 6306, -5875, 5281, -7050, 3912, -7846, 2295,
+	8865, -12465, 12032, -9699, 14322, -6165, 15552, -2136, 21323, 5867, 19918, 10737, 17369, 15267, 13760, 19181,
+	11814, 7973, 10054, 9915, 8005, 11446, 5766, 12536, -13291, -796, -13309, -3974, -12496, -7139, -10873, -10066,
+	-790, 14532, -4627, 14779, -8580, 13917, -12315, 11920, -19043, -9801, -16528, -13472, -13223, -16445, -9337, -18538,
+	-4360, -5244, -3842, -5868, -3240, -6506, -2522, -7148, -6871, -6352, -5474, -7954, -3714, -9186, -1699, -9969,
+	8740, -4131, 9191, -2724, 9432, -1309, 9480, 92, 7391, -10977, 10246, -9069, 12484, -6446, 13936, -3318,
+	-8207, 1079, -7570, -269, -6747, -1263, -5869, -1893, 6569, 2296, 5118, 4709, 2975, 6574, 321, 7712,
+	-12243, 1072, -12516, -1840, -12034, -4887, -10739, -7853, -15095, 3767, -15715, 1164, -15858, -1592, -15474, -4407,
+	-14398, -1214, -13178, -3691, -11593, -5714, -9779, -7253, 8429, 4400, 8091, 5876, 7478, 7488, 6491, 9176,
+	-905, -4726, 673, -5600, 2570, -5919, 4595, -5590, 11846, 11759, 9647, 14103, 6918, 15988, 3767, 17280,
+	16299, -2281, 15530, 800, 14186, 3456, 12416, 5586, 5355, 12274, 2298, 12793, -697, 12550, -3442, 11612,
+	8928, -175, 9095, 1916, 8740, 4072, 7842, 6155, -1297, 2740, -2138, 2016, -2742, 1057, -3046, -67,
+	-10186, 8469, -12270, 6184, -13768, 3365, -14541, 181, -5938, -201, -5009, -1534, -3814, -2472, -2481, -2973,
+	1114, -5448, 2928, -5392, 4750, -4801, 6426, -3673, 2466, 10799, 370, 11514, -1941, 11745, -4337, 11431,
+	0, 0, 0, 0, 0, 0, 0, 0, -11526, -15681, -7332, -17427, -2942, -18032, 1333, -17506,
+	-2236, -18947, 2215, -19883, 6926, -19685, 11595, -18295, 3454, -8879, 5340, -7915, 6963, -6558, 8245, -4876,
+	1476, 1672, 868, 1971, 198, 2077, -475, 1980, 12138, 6436, 10033, 8473, 7643, 9908, 5126, 10721,
+	-2857, 7084, -4183, 6717, -5478, 6054, -6666, 5092, -1229, 11975, -3577, 11870, -5934, 11276, -8191, 10185,
+	-2811, -9915, -468, -10281, 1909, -10096, 4189, -9361, 500, -545, 688, -208, 750, 185, 668, 594,
+	3392, -3932, 4675, -3643, 5960, -2948, 7121, -1838, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_16000_11[] = {
+	0, 0, 0, 0, -1, 1, -3, 1, -10, -3752, 3792, -1795, 4489, 2393, 1504, 5566,
+	-2579, -341, -3007, -1330, -2846, -2848, -1819, -4446, -11350, 11300, -13030, 923, -6660, -6219, 1803, -5126,
+	10441, 2546, 11785, 4888, 11791, 10800, 6333, 17598, 18067, -6677, 19264, 9373, 8009, 20678, -7083, 19710,
+	-20291, -146, -10809, -11310, 910, -10544, 5045, -2900, 6713, 711, 872, 1221, -1010, -2940, 2370, -5832,
+	756, -5308, 3839, -1924, 3380, 1165, 2137, 2211, -1693, -3420, -184, -7319, 5412, -9107, 11963, -5636,
+	-178, -1905, 3073, 271, 3243, 3539, 1386, 5575, 1895, 4380, -3632, 4630, -7502, -70, -6080, -6457,
+	-5493, -3431, -4172, -5074, -1341, -6753, 3275, -6029, 759, -2450, 7128, 945, 6442, 9075, -1881, 12962,
+	-3843, -9549, 2005, -5607, 1222, 414, -4508, 1665, 2753, 8780, -2674, 9614, -7336, 6230, -8023, 898,
+	14145, 729, 8571, 9915, -1959, 11743, -9887, 4824, 9920, -5842, 10459, 6438, 1120, 14182, -10438, 11692,
+	4109, -19848, 12719, -12873, 14827, -3682, 12075, 2992, -266, 6111, -3637, 4833, -5670, 1447, -4926, -2906,
+	4374, -3733, 4779, -2091, 4192, -1245, 4196, -1574, -231, -4545, 7631, -1613, 9754, 7547, 3121, 15764,
+	8396, -3425, 6212, 1209, 1779, 1171, 732, -3246, -431, 17904, -11801, 11299, -14076, -304, -7956, -8239,
+	-2098, -7600, 3658, -9463, 9794, -5811, 11182, 1668, 9899, -12277, 15311, -589, 9443, 10641, -2577, 12672,
+	3224, -12451, 10003, -6912, 11208, 926, 7377, 6817, -5407, 15318, -14301, 6282, -12459, -4742, -3939, -8530,
+	-830, -5106, 448, -605, -3388, 1526, -7256, -1928, 4962, -10229, 12590, -3692, 11524, 6378, 3294, 11035,
+	317, 24219, -16871, 16461, -22658, -1265, -13735, -16703, -797, 4772, -5745, 4023, -8866, -989, -7118, -7259,
+	5846, -6639, 9620, -822, 7979, 6205, 1605, 9851, 9187, 11898, -1485, 18722, -14957, 14602, -20882, 1299,
+	963, 941, -2510, -2820, 587, -9263, 10460, -10526, 11168, 6409, 7908, 18558, -6444, 24726, -22425, 17331,
+	-7947, 20805, -19583, 9851, -20064, -5144, -10885, -15079, -8013, 2503, -7615, -23, -7414, -1492, -8112, -3416,
+	9029, 743, 8295, 8206, 947, 13432, -8578, 11301, 14746, 9696, 7575, 18360, -5260, 19648, -15667, 10766,
+	-3676, 6691, -9765, 1870, -9330, -7129, -1202, -12932, 5746, -6953, 8735, -1834, 7418, 4276, 2162, 7838,
+	-8581, 14080, -14321, 6747, -15703, -2261, -12272, -11282, 4961, -4014, 3291, -1622, 1689, -2819, 3679, -5405,
+	3920, 13648, -4772, 13549, -10379, 8130, -10942, 2161, 11818, -757, 12323, 7749, 6966, 14967, -1900, 17611,
+	-7857, -2632, -2014, -9927, 7547, -8677, 11589, 377, 6123, -22932, 18203, -15571, 22144, -2499, 17079, 8402,
+	-5615, 8489, -9965, 1670, -8203, -5967, -1874, -10250, -7583, -4202, -394, -5710, 4128, -810, 2067, 5189,
+	-1333, 11377, -10134, 7798, -12824, -2188, -6114, -10578, -388, -3461, 1304, -2597, 2338, -147, 728, 3001,
+	-6907, 9598, -11760, 5790, -13313, -1453, -9243, -8296, -10620, -2451, -5167, -8617, 2704, -8330, 6978, -2457,
+	-1882, 9711, -5848, 5108, -5019, 909, -2606, 90, -6952, 2493, -8900, -1920, -7281, -7619, -1573, -11528,
+	2342, 9238, -5657, 7703, -9008, -393, -3551, -8080, -3176, -7011, 3007, -6199, 6933, -1546, 6678, 4742,
+	-17634, 3919, -15222, -11823, -2150, -19128, 10146, -14043, -6026, -9050, 697, -11725, 7177, -9980, 11493, -5483,
+	-2964, -1580, 1848, -2613, 4991, 1727, 2366, 7377, 3451, -2020, 2295, 1228, -778, 1632, -2473, -1116,
+	3165, -7151, 6637, -3763, 7455, 744, 5709, 4746, -1903, 1170, -3023, 278, -3589, -1727, -2554, -4258,
+	4015, 5154, -790, 5315, -3789, 2226, -3443, -1655, 3000, -4269, 3034, 803, -978, 3020, -4981, 426,
+	-17926, -6660, -11381, -14844, -1702, -17896, 7553, -15194, -6724, 7549, -9799, 2314, -9286, -3658, -5526, -8161,
+	15779, 20562, 170, 25618, -14732, 19612, -21823, 6084, 2004, 2438, 1791, 2803, 1485, 4203, -456, 6225,
+	-8606, 5231, -11762, 383, -11809, -6660, -7132, -13566, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_32000_11[] = {
+	0, 0, 0, 0, 0, 0, -1, 1, -5133, -5747, -660, -7856, 4405, -7358, 8715, -4236,
+	-11497, -9691, -8685, -12546, -5025, -14406, -943, -14995, -2802, -75, -3159, -1478, -2788, -3164, -1543, -4738,
+	-8444, -12659, -3061, -15790, 3303, -16434, 9501, -14385, 3520, 616, 3935, 2756, 3280, 5114, 1489, 7192,
+	-6562, -2945, -6043, -4775, -5245, -6586, -4053, -8449, 4577, -6036, 8242, -5192, 11388, -2449, 13119, 1786,
+	-7598, 183, -5023, -1728, -2258, -1998, -126, -841, -11704, 14919, -15600, 10828, -17652, 5767, -17749, 659,
+	19074, -4264, 19730, 623, 18820, 5652, 16292, 10209, 1951, 15884, -3991, 14619, -8841, 11165, -11829, 6167,
+	6627, -1885, 6203, 1803, 3960, 4740, 527, 6116, -12663, -4125, -10267, -7104, -7329, -8890, -4369, -9522,
+	-8072, 1093, -6495, -766, -4587, -1581, -2857, -1367, -7290, 27258, -15841, 23660, -22366, 17033, -25797, 8551,
+	-2027, 13899, -5774, 11548, -8141, 8303, -9043, 4854, -16627, -9524, -13267, -14453, -8189, -17880, -2142, -19168,
+	-16745, 191, -15345, -5256, -12080, -9699, -7538, -12498, -636, -15730, 5238, -14158, 9784, -10543, 12389, -5697,
+	11063, -3317, 11573, 2244, 9246, 7420, 4622, 10835, -10659, 15727, -15466, 10642, -17710, 4015, -16941, -2867,
+	-16557, -6193, -13920, -12073, -8894, -16479, -2370, -18434, 5972, -942, 6134, -1614, 7317, -1770, 8993, -810,
+	1766, 9455, -2500, 8979, -6074, 6745, -8252, 3260, 13548, 6267, 9288, 10908, 3517, 13100, -2460, 12433,
+	-7623, -5003, -5385, -5105, -3835, -4398, -3206, -3421, 10631, -736, 11073, 5470, 8380, 11380, 3007, 15534,
+	2758, 1100, 3212, 1351, 3708, 2141, 3861, 3484, 2717, 2820, 1433, 2755, 346, 2040, -196, 796,
+	1090, 4859, -1167, 4391, -2382, 3002, -2314, 1555, -3397, -6692, -1800, -5732, -1136, -4550, -1276, -3619,
+	-2983, -12806, 1318, -12557, 5280, -10879, 8429, -7953, 10199, -9975, 12793, -8155, 14950, -5344, 16212, -1720,
+	7764, -9010, 8022, -5789, 7106, -3442, 5741, -2291, -3074, -2868, -2783, -2972, -2823, -2878, -3312, -2923,
+	6421, 14010, 2557, 13542, -356, 12427, -2487, 11165, -1857, 6691, -3528, 6808, -5615, 6194, -7689, 4577,
+	2150, 5901, -539, 7010, -3516, 6869, -6227, 5500, -3271, 8149, -6692, 6470, -8890, 3473, -9434, -24,
+	-2226, 9984, -3574, 9515, -5009, 8940, -6552, 8045, -8984, 7060, -11461, 6017, -13995, 3790, -15951, 266,
+	7321, -5020, 8289, -1297, 7305, 2321, 4710, 4850, -9498, 13373, -13136, 9211, -14845, 4170, -14506, -874,
+	-10106, 6736, -9373, 3213, -7520, 1080, -5508, 563, -3755, -4827, -2529, -7290, -157, -9153, 2975, -9934,
+	-6629, -6855, -3837, -7683, -1312, -7413, 573, -6370, -3724, 15169, -8794, 13049, -12760, 8980, -14830, 3562,
+	4345, 4266, 2439, 4729, 979, 4252, 371, 3307, 7229, -2938, 7249, -1109, 6791, 549, 5955, 1909,
+	-2058, 2986, -3135, 1776, -3419, 168, -2798, -1337, 3462, -4079, 6261, -2408, 7796, 495, 7688, 3797,
+	-1188, 7816, -3224, 6012, -4045, 3596, -3522, 1282, 1159, -7084, 5844, -6133, 9722, -2978, 11869, 1815,
+	2028, 6894, -930, 5716, -2824, 3572, -3437, 1075, -7333, -1627, -7703, -2623, -8103, -4356, -7918, -6859,
+	-15939, 9021, -20326, 3703, -22363, -3536, -21298, -11481, -4248, 4901, -4580, 1555, -3215, -1341, -597, -3017,
+	4699, -2194, 4832, -1640, 5065, -1036, 5306, -269, -12808, -1638, -13092, -6543, -11059, -11558, -6791, -15539,
+	2726, 4360, 235, 6816, -3289, 7668, -6916, 6644, -134, 1226, -488, 1183, -838, 1030, -1146, 763,
+	-2900, -638, -2247, -1865, -1061, -2678, 428, -2853, -5541, -5166, -3305, -6770, -639, -7378, 2016, -6906,
+	-6254, -5419, -4119, -7568, -1293, -8839, 1859, -9034, 9149, -8742, 11356, -6719, 13120, -4025, 14199, -763,
+	7644, 8347, 6268, 10824, 3980, 13162, 752, 15009, -3831, -1539, -2941, -2903, -1595, -3793, -27, -4078,
+	-10806, 12738, -14104, 8431, -15717, 3372, -15530, -1796, 6469, 1090, 5295, 3259, 3480, 4775, 1329, 5484,
+	-4821, -15844, 1071, -15995, 6416, -13993, 10452, -10273, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const int16_t reference_44100_11[] = {
+	0, 0, 0, 0, 0, 0, 0, 0, 2810, -1732, 3687, 1239, 3368, 4172, 2010, 6690,
+	7539, -12718, 11605, -11663, 15440, -9309, 18635, -5743, 4422, -9219, 6004, -8754, 7633, -7987, 9240, -6862,
+	7638, -6686, 8177, -4197, 8015, -1782, 7233, 370, 863, -7913, 2061, -7216, 2916, -6328, 3406, -5396,
+	109, 162, 1208, 189, 2250, 747, 3035, 1784, 227, -8173, 1440, -8264, 2703, -8147, 3980, -7811,
+	9891, 1762, 7982, 4844, 5161, 7083, 1763, 8214, 1314, -9647, 3599, -8086, 5089, -5936, 5645, -3538,
+	3168, -6553, 3699, -4775, 3492, -3126, 2666, -1890, 4180, -4104, 6208, -2575, 7606, -329, 8151, 2372,
+	6033, 1772, 5367, 3181, 4397, 4408, 3166, 5378, 8082, -3026, 7118, -1352, 5850, -338, 4566, -4,
+	760, -3207, 2287, -2357, 3426, -991, 4015, 738, -4885, -12895, -2162, -15286, 1407, -16929, 5578, -17552,
+	11261, -8712, 13147, -4215, 13236, 612, 11540, 5081, -10539, 2794, -11302, -1441, -10565, -5635, -8462, -9287,
+	6513, -8038, 9150, -6048, 11184, -3168, 12304, 399, -6356, -81, -6087, -2120, -5073, -3970, -3430, -5364,
+	-4058, 13879, -8978, 12365, -13212, 9215, -16230, 4746, -3061, 1773, -2883, 1909, -3015, 2217, -3517, 2507,
+	5717, -9207, 7862, -8138, 9744, -6529, 11217, -4459, 8081, 14609, 4508, 15124, 1092, 14582, -1821, 13116,
+	5210, -14373, 8466, -13674, 11672, -12187, 14610, -9881, -5249, 16927, -8289, 14482, -10417, 11492, -11564, 8268,
+	-14716, 20038, -18910, 15305, -21452, 9614, -22139, 3542, -2929, 10528, -6519, 8922, -9283, 6154, -10865, 2624,
+	8243, -6381, 9612, -3374, 9937, -132, 9209, 2997, -16895, 2874, -18148, -681, -18452, -4698, -17655, -8866,
+	6010, 1597, 5257, 2047, 4469, 2179, 3776, 1984, -1142, -2707, -1868, -2361, -2645, -2537, -3255, -3194,
+	-9548, 13496, -12148, 10143, -13569, 6326, -13768, 2461, -8973, 8263, -10461, 5435, -11070, 2409, -10812, -545,
+	-19065, 606, -19100, -3960, -17844, -8382, -15407, -12267, 6789, 7348, 3696, 8412, 381, 8246, -2676, 6810,
+	6343, 1969, 4465, 4077, 1847, 5298, -1131, 5385, -7978, 17206, -12101, 14166, -15144, 10198, -16923, 5668,
+	10989, 3886, 11127, 6370, 10581, 9067, 9256, 11763, -6102, -7615, -3250, -10158, 376, -11527, 4302, -11532,
+	10082, 9413, 7845, 11561, 5012, 13032, 1828, 13648, 10319, 1213, 9082, 3265, 7423, 4722, 5588, 5516,
+	486, -13151, 3466, -11610, 5734, -9317, 7093, -6553, 1085, 10886, -386, 9701, -1259, 8431, -1600, 7302,
+	3606, 7124, 3009, 8745, 1813, 10219, 105, 11355, -8001, 1313, -7334, 572, -6654, 198, -6098, 157,
+	7336, 7187, 4825, 10006, 1427, 11921, -2512, 12685, -2425, -6915, -1507, -8308, 59, -9419, 2118, -9984,
+	11183, 1954, 10212, 4812, 8384, 7247, 5878, 8981, 1775, -2589, 2296, -2601, 3004, -2486, 3857, -2126,
+	25, 5226, -1961, 4921, -3767, 3909, -5151, 2277, -4476, -471, -4360, -834, -4250, -1164, -4157, -1480,
+	-6600, -4985, -5449, -6154, -4078, -7065, -2538, -7672, 6384, 5009, 5373, 7148, 3658, 9015, 1327, 10380,
+	-8777, -1175, -8064, -4530, -6172, -7618, -3211, -10023, -4392, 9302, -6911, 7640, -8823, 5256, -9925, 2385,
+	-612, -4059, 323, -3317, 910, -2341, 1088, -1253, 3502, 695, 3149, 801, 2959, 874, 2900, 1010,
+	14078, -6709, 13647, -3427, 12350, -596, 10384, 1538, 4231, 8073, 2572, 10109, 62, 11557, -3037, 12096,
+	0, 0, 0, 0, 0, 0, 0, 0, -2309, -6608, -572, -6972, 1195, -6913, 2897, -6435,
+	-6473, 4913, -7398, 3260, -7868, 1460, -7875, -361, -11677, -5730, -9989, -8341, -7740, -10397, -5116, -11791,
+	-15118, 5747, -15249, 1907, -14458, -1673, -12879, -4786, 302, 2202, -92, 2407, -562, 2530, -1088, 2550,
+	-11763, -12354, -7879, -14812, -3498, -16115, 1046, -16169, 20616, -103, 19645, 4435, 17677, 8476, 14902, 11811,
+	1556, 5451, 320, 5913, -1042, 6059, -2441, 5858, -3819, -747, -3642, -1718, -3192, -2625, -2496, -3386,
+	-8241, 3845, -9191, 1953, -9697, -176, -9700, -2434, 0, 0, 0, 0, 0, 0, 0, 0,
+};
+
+static const EncoderReference references[] = {
+	{8000, 6, 66, reference_8000_6},
+	{8000, 7, 70, reference_8000_7},
+	{8000, 8, 97, reference_8000_8},
+	{8000, 9, 106, reference_8000_9},
+	{8000, 10, 58, reference_8000_10},
+	{8000, 11, 72, reference_8000_11},
+	{8000, 12, 100, reference_8000_12},
+	{8000, 13, 142, reference_8000_13},
+	{48000, 6, 66, reference_48000_6},
+	{48000, 7, 70, reference_48000_7},
+	{48000, 8, 97, reference_48000_8},
+	{48000, 9, 106, reference_48000_9},
+	{48000, 10, 58, reference_48000_10},
+	{48000, 11, 72, reference_48000_11},
+	{48000, 12, 100, reference_48000_12},
+	{48000, 13, 142, reference_48000_13},
+	{16000, 11, 72, reference_16000_11},
+	{32000, 11, 72, reference_32000_11},
+	{44100, 11, 72, reference_44100_11},
+};
@@ -0,0 +1,211 @@
+/*
+Host test of the encoder output against stored reference blocks
+
+The references are blocks of analytic 16 bit samples from every symbol,
+taken at a different offset for each symbol. Rounding may differ with
+the compiler and its flags, so a sample passes within one LSB.
+
+Regenerate encoder_reference.hh with: shredpix-encoder-test -g
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#include <memory>
+#include <vector>
+#include <cmath>
+#include <cstdio>
+#include <cstdlib>
+#include <cstring>
+#include <algorithm>
+#include <type_traits>
+#include "waveform_cache.hh"
+
+struct EncoderReference {
+	int rate;
+	int mode;
+	int symbols;
+	const int16_t *samples;
+};
+
+#include "encoder_reference.hh"
+
+// complex samples taken from every symbol
+static const int block_length = 4;
+
+static int failures = 0;
+
+static void check(bool okay, const char *what, int rate, int mode) {
+	if (!okay) {
+		fprintf(stderr, "FAILED: %s at %d Hz in mode %d\n", what, rate, mode);
+		++failures;
+	}
+}
+
+static Interface *create(int rate) {
+	switch (rate) {
+		case 8000:
+			return new Encoder<8000>();
+		case 16000:
+			return new Encoder<16000>();
+		case 32000:
+			return new Encoder<32000>();
+		case 44100:
+			return new Encoder<44100>();
+		case 48000:
+			return new Encoder<48000>();
+	}
+	return nullptr;
+}
+
+static int extended_length(int rate) {
+	return ((1280 * rate) / 8000) * 9 / 8;
+}
+
+static int block_offset(int rate, int symbol) {
+	return (97 * symbol) % (extended_length(rate) - block_length);
+}
+
+static int16_t quantize(int16_t sample) {
+	return sample;
+}
+
+// the float samples are not clamped, but the references are
+static int16_t quantize(float sample) {
+	return std::clamp<float>(std::nearbyint(32768 * sample), -32768, 32767);
+}
+
+struct Blocks {
+	std::vector<int16_t> samples;
+	int symbols = 0;
+	// the channel that stays silent in channel modes 1 and 2
+	bool silent = true;
+};
+
+static void configure(Interface *encoder, int mode) {
+	uint8_t payload[5380];
+	for (int i = 0; i < 5380; ++i)
+		payload[i] = i * 77 + 3;
+	encoder->configure(payload, reinterpret_cast<const int8_t *>("ANONYMOUS"), mode, 1700, 1, true);
+}
+
+// without an imaginary part in the output, the blocks only hold the real part
+template<typename SAMPLE>
+static Blocks blocks(Interface *encoder, int mode, int channel_select) {
+	configure(encoder, mode);
+	int length = extended_length(encoder->rate());
+	std::vector<SAMPLE> audio((channel_select ? 2 : 1) * length);
+	Blocks result;
+	while (encoder->produce(audio.data(), channel_select)) {
+		int offset = block_offset(encoder->rate(), result.symbols++);
+		for (int i = offset; i < offset + block_length; ++i) {
+			switch (channel_select) {
+				case 1:
+					result.samples.push_back(quantize(audio[2 * i]));
+					break;
+				case 2:
+					result.samples.push_back(quantize(audio[2 * i + 1]));
+					break;
+				case 4:
+					result.samples.push_back(quantize(audio[2 * i]));
+					result.samples.push_back(quantize(audio[2 * i + 1]));
+					break;
+				default:
+					result.samples.push_back(quantize(audio[i]));
+			}
+		}
+		for (int i = 0; i < length && (channel_select == 1 || channel_select == 2); ++i)
+			result.silent = result.silent && audio[2 * i + (channel_select == 1)] == 0;
+	}
+	return result;
+}
+
+static bool close(const EncoderReference &reference, const Blocks &blocks, bool complex) {
+	if (blocks.symbols != reference.symbols || !blocks.silent)
+		return false;
+	for (int j = 0; j < reference.symbols * block_length; ++j) {
+		if (std::abs(blocks.samples[complex ? 2 * j : j] - reference.samples[2 * j]) > 1)
+			return false;
+		if (complex && std::abs(blocks.samples[2 * j + 1] - reference.samples[2 * j + 1]) > 1)
+			return false;
+	}
+	return true;
+}
+
+// the noise symbols continue their sequence in the next transmission, so every pass gets a new encoder
+template<typename SAMPLE>
+static Blocks fresh(int rate, int mode, int channel_select, int threads = 1) {
+	std::unique_ptr<Interface> encoder(create(rate));
+	encoder->parallel(threads);
+	return blocks<SAMPLE>(encoder.get(), mode, channel_select);
+}
+
+static void test(const EncoderReference &reference) {
+	int rate = reference.rate, mode = reference.mode;
+	check(close(reference, fresh<int16_t>(rate, mode, 0), false), "mono", rate, mode);
+	check(close(reference, fresh<int16_t>(rate, mode, 1), false), "left", rate, mode);
+	check(close(reference, fresh<int16_t>(rate, mode, 2), false), "right", rate, mode);
+	check(close(reference, fresh<int16_t>(rate, mode, 4), true), "analytic", rate, mode);
+	check(close(reference, fresh<float>(rate, mode, 0), false), "float mono", rate, mode);
+	check(close(reference, fresh<float>(rate, mode, 4), true), "float analytic", rate, mode);
+	check(close(reference, fresh<int16_t>(rate, mode, 0, 3), false), "parallel mono", rate, mode);
+	check(close(reference, fresh<int16_t>(rate, mode, 4, 3), true), "parallel analytic", rate, mode);
+	// each format is recorded by the first pass and replayed by the second
+	WaveformCache cache;
+	cache.limit(64L << 20);
+	for (int pass = 0; pass < 2; ++pass) {
+		std::unique_ptr<Interface> caching(new CachingEncoder(create(rate), &cache));
+		check(close(reference, blocks<float>(caching.get(), mode, 0), false), "cached float mono", rate, mode);
+		caching.reset(new CachingEncoder(create(rate), &cache));
+		check(close(reference, blocks<int16_t>(caching.get(), mode, 4), true), "cached analytic", rate, mode);
+	}
+	check(cache.misses() == 2 && cache.hits() == 2, "cache replays what it recorded", rate, mode);
+}
+
+struct Case {
+	int rate;
+	int mode;
+};
+
+// every mode at the rate with PAPR reduction and at one without, the other rates with a single mode
+static std::vector<Case> cases() {
+	std::vector<Case> list;
+	for (int mode = 6; mode <= 13; ++mode)
+		list.push_back({8000, mode});
+	for (int mode = 6; mode <= 13; ++mode)
+		list.push_back({48000, mode});
+	for (int rate: {16000, 32000, 44100})
+		list.push_back({rate, 11});
+	return list;
+}
+
+static void generate() {
+	printf("// generated by shredpix-encoder-test -g\n\n");
+	std::vector<int> counts;
+	for (const Case &c: cases()) {
+		Blocks result = fresh<int16_t>(c.rate, c.mode, 4);
+		counts.push_back(result.symbols);
+		printf("static const int16_t reference_%d_%d[] = {", c.rate, c.mode);
+		for (size_t i = 0; i < result.samples.size(); ++i)
+			printf("%s%d,", i % 16 ? " " : "\n\t", result.samples[i]);
+		printf("\n};\n\n");
+	}
+	printf("static const EncoderReference references[] = {\n");
+	int i = 0;
+	for (const Case &c: cases())
+		printf("\t{%d, %d, %d, reference_%d_%d},\n", c.rate, c.mode, counts[i++], c.rate, c.mode);
+	printf("};\n");
+}
+
+int main(int argc, char **argv) {
+	if (argc > 1 && !std::strcmp(argv[1], "-g")) {
+		generate();
+		return 0;
+	}
+	for (const EncoderReference &reference: references)
+		test(reference);
+	if (failures)
+		fprintf(stderr, "%d checks failed\n", failures);
+	else
+		printf("all checks passed\n");
+	return failures ? 1 : 0;
+}
@@ -0,0 +1,109 @@
+/*
+Host test of the audio engine and its ring buffer with the null and file sinks
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#include <memory>
+#include <vector>
+#include <cstdio>
+#include <cstring>
+#include <unistd.h>
+#include "audio_engine.hh"
+#include "null_sink.hh"
+#include "file_sink.hh"
+
+static int failures = 0;
+
+static void check(bool okay, const char *what) {
+	if (!okay) {
+		fprintf(stderr, "FAILED: %s\n", what);
+		++failures;
+	}
+}
+
+static void test_ring_buffer() {
+	RingBuffer<int, 8> ring;
+	int data[8], out[8];
+	for (int i = 0; i < 8; ++i)
+		data[i] = i + 1;
+	check(ring.write(data, 5) == 5, "ring writes what fits");
+	check(ring.read(out, 3) == 3 && out[0] == 1 && out[2] == 3, "ring reads in order");
+	check(ring.write(data, 8) == 6, "ring stops when full");
+	check(ring.readable() == 8 && ring.writable() == 0, "ring is full");
+	check(ring.read(out, 8) == 8 && out[0] == 4 && out[1] == 5 && out[2] == 1 && out[7] == 6, "ring wraps around");
+	check(ring.read(out, 1) == 0, "ring is empty");
+}
+
+static void configure(Interface *encoder) {
+	uint8_t payload[5380];
+	for (int i = 0; i < 5380; ++i)
+		payload[i] = i * 77 + 3;
+	encoder->configure(payload, reinterpret_cast<const int8_t *>("ANONYMOUS"), 13, 1700, 1, true);
+}
+
+static void test_null_sink(int channel_select) {
+	std::unique_ptr<Interface> encoder(new Encoder<8000>());
+	configure(encoder.get());
+	long expected = long(encoder->symbols()) * 1440;
+	NullSink sink;
+	std::unique_ptr<AudioEngine> engine(new AudioEngine(encoder.get(), &sink, 0));
+	check(engine->start(channel_select), "engine starts with the null sink");
+	while (engine->running())
+		usleep(1000);
+	engine->stop();
+	check(sink.frames_pulled() == expected, "null sink gets every frame");
+	check(engine->underrun_count() == 0, "null sink does not underrun");
+	check(engine->first_sample_nanos() != 0, "null sink got a first sample");
+}
+
+static void test_file_sink(int channel_select) {
+	int channels = channel_select ? 2 : 1;
+	char name[] = "/tmp/engine_testXXXXXX";
+	int fd = mkstemp(name);
+	check(fd >= 0, "temporary file");
+	if (fd < 0)
+		return;
+	close(fd);
+	std::unique_ptr<Interface> encoder(new Encoder<8000>());
+	configure(encoder.get());
+	int symbols = encoder->symbols();
+	FileSink sink(name);
+	std::unique_ptr<AudioEngine> engine(new AudioEngine(encoder.get(), &sink, 0));
+	check(engine->start(channel_select), "engine starts with the file sink");
+	sink.wait();
+	engine->stop();
+	check(sink.frames_written() == long(symbols) * 1440, "file sink gets every frame");
+	check(engine->underrun_count() == 0, "file sink does not count underruns");
+	// the file must hold exactly what the encoder renders without the engine in between
+	std::unique_ptr<Interface> direct(new Encoder<8000>());
+	configure(direct.get());
+	std::vector<float> expected, symbol(channels * 1440);
+	while (direct->produce(symbol.data(), channel_select))
+		expected.insert(expected.end(), symbol.begin(), symbol.end());
+	FILE *file = fopen(name, "rb");
+	std::vector<float> written(expected.size() + 1);
+	uint8_t header[WavHeader::size];
+	bool okay = file && fread(header, 1, WavHeader::size, file) == WavHeader::size;
+	okay = okay && !std::memcmp(header, WavHeader(8000, channels, 32, expected.size() / channels, true).data(), WavHeader::size);
+	check(okay, "file sink writes the final header");
+	size_t count = file ? fread(written.data(), sizeof(float), written.size(), file) : 0;
+	written.resize(count);
+	check(written == expected, "file sink writes the samples of the encoder");
+	if (file)
+		fclose(file);
+	unlink(name);
+}
+
+int main() {
+	test_ring_buffer();
+	for (int channel_select: {0, 4}) {
+		test_null_sink(channel_select);
+		test_file_sink(channel_select);
+	}
+	if (failures)
+		fprintf(stderr, "%d checks failed\n", failures);
+	else
+		printf("all checks passed\n");
+	return failures ? 1 : 0;
+}
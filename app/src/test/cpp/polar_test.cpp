@@ -0,0 +1,124 @@
+/*
+Host test of the bit packed polar encoder against the int8 reference encoder
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+#include <memory>
+#include <cstdio>
+#include "xorshift.hh"
+#include "polar.hh"
+#include "polar_encoder.hh"
+
+static int failures = 0;
+
+static void check(bool okay, const char *what, int value) {
+	if (!okay) {
+		fprintf(stderr, "FAILED: %s %d\n", what, value);
+		++failures;
+	}
+}
+
+static int nrz(bool bit) {
+	return 1 - 2 * bit;
+}
+
+// random frozen bits exercise every butterfly stage, within a word and across words
+template<int LEVEL>
+static void test_packed() {
+	static const int length = 1 << LEVEL;
+	CODE::Xorshift32 random(LEVEL);
+	std::unique_ptr<uint64_t[]> packed(new uint64_t[length / 64]()), frozen(new uint64_t[length / 64]());
+	std::unique_ptr<uint32_t[]> frozen_bits(new uint32_t[length / 32]());
+	std::unique_ptr<int8_t[]> mesg(new int8_t[length]), code(new int8_t[length]);
+	int count = 0;
+	for (int i = 0; i < length; ++i) {
+		if (random() % 3 == 0) {
+			frozen[i / 64] |= uint64_t(1) << (i % 64);
+			frozen_bits[i / 32] |= uint32_t(1) << (i % 32);
+			continue;
+		}
+		bool bit = random() & 1;
+		packed[i / 64] |= uint64_t(bit) << (i % 64);
+		mesg[count++] = nrz(bit);
+	}
+	PackedPolarSysEnc<LEVEL> encode;
+	encode(packed.get(), frozen.get());
+	CODE::PolarSysEnc<int8_t> reference;
+	reference(code.get(), mesg.get(), frozen_bits.get(), LEVEL);
+	bool same = true;
+	for (int i = 0; i < length; ++i)
+		same = same && nrz((packed[i / 64] >> (i % 64)) & 1) == code[i];
+	check(same, "packed codeword at level", LEVEL);
+}
+
+// the int8 encoding, shortening and mapping that the packed one replaced
+struct ReferencePolar {
+	typedef DSP::Complex<float> cmplx;
+	static const int data_bits = 43040;
+	static const int crc_bits = data_bits + 32;
+	CODE::CRC<uint32_t> crc;
+	CODE::PolarSysEnc<int8_t> encode;
+	int8_t code[65536], mesg[44096];
+
+	ReferencePolar() : crc(0xD419CC15) {}
+
+	void operator()(cmplx *cons, const uint8_t *message, int mode) {
+		bool shorter = mode <= 9;
+		const uint32_t *frozen_bits = shorter ? frozen_64800_43072 : frozen_64512_43072;
+		int mesg_bits = shorter ? 43808 : 44096;
+		int mod_bits = mode == 6 || mode == 7 || mode == 10 || mode == 11 ? 3 : 2;
+		int cons_cnt = (shorter ? 64800 : 64512) / mod_bits;
+		for (int i = 0; i < data_bits; ++i)
+			mesg[i] = nrz(CODE::get_le_bit(message, i));
+		crc.reset();
+		for (int i = 0; i < data_bits / 8; ++i)
+			crc(message[i]);
+		for (int i = 0; i < 32; ++i)
+			mesg[i + data_bits] = nrz((crc() >> i) & 1);
+		for (int i = crc_bits; i < mesg_bits; ++i)
+			mesg[i] = 1;
+		encode(code, mesg, frozen_bits, 16);
+		for (int i = 0, j = 0, k = 0; i < 65536; ++i)
+			if ((frozen_bits[i / 32] >> (i % 32)) & 1 || k++ < crc_bits)
+				code[j++] = code[i];
+		for (int i = 0; i < cons_cnt; ++i) {
+			if (mod_bits == 3)
+				cons[i] = PhaseShiftKeying<8, cmplx, int8_t>::map(code + 3 * i);
+			else
+				cons[i] = PhaseShiftKeying<4, cmplx, int8_t>::map(code + 2 * i);
+		}
+	}
+};
+
+static void test_polar(int mode) {
+	typedef DSP::Complex<float> cmplx;
+	uint8_t message[5380];
+	CODE::Xorshift32 random(mode);
+	for (uint8_t &byte: message)
+		byte = random();
+	std::unique_ptr<Polar> polar(new Polar());
+	std::unique_ptr<ReferencePolar> reference(new ReferencePolar());
+	std::unique_ptr<cmplx[]> cons(new cmplx[32400]), expected(new cmplx[32400]);
+	(*polar)(cons.get(), message, mode);
+	(*reference)(expected.get(), message, mode);
+	int cons_cnt = (mode <= 9 ? 64800 : 64512) / (mode == 6 || mode == 7 || mode == 10 || mode == 11 ? 3 : 2);
+	bool same = true;
+	for (int i = 0; i < cons_cnt; ++i)
+		same = same && cons[i].real() == expected[i].real() && cons[i].imag() == expected[i].imag();
+	check(same, "constellation points in mode", mode);
+}
+
+int main() {
+	test_packed<6>();
+	test_packed<7>();
+	test_packed<10>();
+	test_packed<16>();
+	for (int mode = 6; mode <= 13; ++mode)
+		test_polar(mode);
+	if (failures)
+		fprintf(stderr, "%d checks failed\n", failures);
+	else
+		printf("all checks passed\n");
+	return failures ? 1 : 0;
+}
@@ -0,0 +1,116 @@
+/*
+Fixed set of test images, generated or loaded from a directory
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.bench;
+
+import com.aicodix.shredpix.codec.Sizing;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+final class Corpus {
+	static final int maxLength = 1024;
+	private static final int[][] sizes = {{1600, 1200}, {1200, 1600}, {2048, 1536}, {1024, 1024}};
+
+	private Corpus() {
+	}
+
+	// decoded the same way the app does before any recoding happens
+	static List<BufferedImage> load(String directory) throws IOException {
+		List<BufferedImage> images = new ArrayList<>();
+		if (directory == null || directory.isEmpty()) {
+			for (int i = 0; i < sizes.length; ++i)
+				images.add(fit(synthetic(sizes[i][0], sizes[i][1], i)));
+			return images;
+		}
+		File[] files = new File(directory).listFiles();
+		if (files == null)
+			throw new IOException("can not list " + directory);
+		Arrays.sort(files);
+		for (File file : files) {
+			BufferedImage image = file.isFile() ? ImageIO.read(file) : null;
+			if (image != null)
+				images.add(fit(image));
+		}
+		if (images.isEmpty())
+			throw new IOException("no images in " + directory);
+		return images;
+	}
+
+	// the resolution candidates of every image below pixelsMax
+	static List<BufferedImage> candidates(List<BufferedImage> images, int pixelsMax) {
+		List<BufferedImage> candidates = new ArrayList<>();
+		for (BufferedImage image : images) {
+			int[] sizes = Sizing.candidates(image.getWidth(), image.getHeight(), pixelsMax);
+			for (int i = 0; i < sizes.length; i += 2)
+				candidates.add(scale(image, sizes[i], sizes[i + 1]));
+		}
+		return candidates;
+	}
+
+	private static BufferedImage fit(BufferedImage image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		return scale(image, Sizing.fit(width, width, height, maxLength), Sizing.fit(height, width, height, maxLength));
+	}
+
+	private static BufferedImage scale(BufferedImage image, int width, int height) {
+		Image scaled = image;
+		if (width != image.getWidth() || height != image.getHeight())
+			scaled = image.getScaledInstance(width, height, Image.SCALE_AREA_AVERAGING);
+		BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = result.createGraphics();
+		graphics.drawImage(scaled, 0, 0, null);
+		graphics.dispose();
+		return result;
+	}
+
+	// smooth gradients, hard edges and some sensor like noise, seeded for repeatable runs
+	private static BufferedImage synthetic(int width, int height, int seed) {
+		Random random = new Random(seed);
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		for (int y = 0; y < height; ++y) {
+			graphics.setColor(new Color((y * 255) / height, 96 + seed * 32, 255 - (y * 255) / height));
+			graphics.drawLine(0, y, width - 1, y);
+		}
+		for (int i = 0; i < 24; ++i) {
+			graphics.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256)));
+			int w = width / 16 + random.nextInt(width / 4);
+			int h = height / 16 + random.nextInt(height / 4);
+			int x = random.nextInt(width - w);
+			int y = random.nextInt(height - h);
+			if (random.nextBoolean())
+				graphics.fillOval(x, y, w, h);
+			else
+				graphics.fillRect(x, y, w, h);
+		}
+		graphics.dispose();
+		for (int y = 0; y < height; ++y) {
+			for (int x = 0; x < width; ++x) {
+				int rgb = image.getRGB(x, y);
+				int noise = (int) (random.nextGaussian() * 6);
+				int r = Math.min(Math.max(((rgb >> 16) & 255) + noise, 0), 255);
+				int g = Math.min(Math.max(((rgb >> 8) & 255) + noise, 0), 255);
+				int b = Math.min(Math.max((rgb & 255) + noise, 0), 255);
+				image.setRGB(x, y, (r << 16) | (g << 8) | b);
+			}
+		}
+		return image;
+	}
+}
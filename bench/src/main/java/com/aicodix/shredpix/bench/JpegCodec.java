@@ -0,0 +1,68 @@
+/*
+Desktop stand-in for the JPEG compression of the app
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.bench;
+
+import com.aicodix.shredpix.codec.ImageCodec;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+class JpegCodec implements ImageCodec<BufferedImage> {
+	private final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+	private final ImageWriteParam param = writer.getDefaultWriteParam();
+
+	JpegCodec() {
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+	}
+
+	@Override
+	public boolean compress(BufferedImage image, int quality, OutputStream stream) {
+		param.setCompressionQuality(quality / 100f);
+		try {
+			ImageOutputStream output = new MemoryCacheImageOutputStream(stream);
+			try {
+				writer.setOutput(output);
+				writer.write(null, new IIOImage(image, null, null), param);
+				output.flush();
+			} finally {
+				writer.setOutput(null);
+				output.close();
+			}
+		} catch (IOException ignore) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int quality() {
+		return 0;
+	}
+
+	@Override
+	public int lowerQuality() {
+		return 0;
+	}
+
+	@Override
+	public int higherQuality() {
+		return 100;
+	}
+
+	@Override
+	public boolean searchable() {
+		return true;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+Quality search over the resolution candidates of a fixed corpus
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.bench;
+
+import com.aicodix.shredpix.codec.BisectionSearch;
+import com.aicodix.shredpix.codec.EncodeCache;
+import com.aicodix.shredpix.codec.InterpolationSearch;
+import com.aicodix.shredpix.codec.PayloadEncoder;
+import com.aicodix.shredpix.codec.QualitySearch;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// wall time per search, add -prof gc for the allocation rate
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PayloadBenchmark {
+	private static final int payloadSize = 5380;
+
+	@Param({"interpolation", "bisection"})
+	public String search;
+
+	@Param({"65536", "262144"})
+	public int pixelsMax;
+
+	private final JpegCodec codec = new JpegCodec();
+	private final EncodeCache cache = new EncodeCache(32);
+	private PayloadEncoder<BufferedImage> encoder;
+	private List<BufferedImage> candidates;
+	private int next;
+
+	// both are summed over an iteration, their ratio is the number of compress calls per search
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Counters {
+		public long compressCalls;
+		public long searches;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			compressCalls = 0;
+			searches = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		QualitySearch strategy;
+		switch (search) {
+			case "bisection":
+				strategy = new BisectionSearch();
+				break;
+			case "interpolation":
+				strategy = new InterpolationSearch();
+				break;
+			default:
+				throw new IllegalArgumentException("unknown search " + search);
+		}
+		encoder = new PayloadEncoder<>(payloadSize, cache, strategy);
+		candidates = Corpus.candidates(Corpus.load(System.getProperty("corpus")), pixelsMax);
+	}
+
+	@Benchmark
+	public byte[] encode(Counters counters) {
+		BufferedImage image = candidates.get(next);
+		next = (next + 1) % candidates.size();
+		// every invocation has to pay for a full search
+		cache.clear();
+		byte[] payload = encoder.encode(image, codec, () -> false);
+		counters.compressCalls += encoder.compressCalls();
+		++counters.searches;
+		return payload;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+Plain bisection over the quality range
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+public class BisectionSearch implements QualitySearch {
+
+	@Override
+	public int search(Probe probe, int lowerQuality, int higherQuality, int targetSize) {
+		int size = probe.size(lowerQuality);
+		if (size < 0 || size > targetSize)
+			return -1;
+		size = probe.size(higherQuality);
+		if (size < 0)
+			return -1;
+		if (size <= targetSize)
+			return higherQuality;
+		while (higherQuality - lowerQuality > 1) {
+			int testQuality = (lowerQuality + higherQuality + 1) / 2;
+			size = probe.size(testQuality);
+			if (size < 0)
+				return -1;
+			if (size > targetSize)
+				higherQuality = testQuality;
+			else
+				lowerQuality = testQuality;
+		}
+		return lowerQuality;
+	}
+
+	@Override
+	public String name() {
+		return "bisection";
+	}
+}
@@ -0,0 +1,141 @@
+/*
+Memo of compression results per image and codec
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EncodeCache {
+
+	static class Entry {
+		private final int[] sizes = new int[101];
+		private byte[] payload;
+
+		private Entry() {
+			Arrays.fill(sizes, -1);
+		}
+
+		synchronized int size(int quality) {
+			return sizes[quality];
+		}
+
+		synchronized void size(int quality, int size) {
+			sizes[quality] = size;
+		}
+
+		synchronized byte[] payload() {
+			return payload;
+		}
+
+		synchronized void payload(byte[] payload) {
+			this.payload = payload;
+		}
+	}
+
+	// the cache must not keep images alive, a collected one can never be asked for again
+	private static class Key extends WeakReference<Object> {
+		private final ImageCodec<?> codec;
+		private final int hash;
+
+		private Key(Object image, ImageCodec<?> codec, ReferenceQueue<Object> queue) {
+			super(image, queue);
+			this.codec = codec;
+			hash = 31 * System.identityHashCode(image) + codec.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this)
+				return true;
+			if (!(o instanceof Key))
+				return false;
+			Key key = (Key) o;
+			Object image = get();
+			return image != null && image == key.get() && codec.equals(key.codec);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private final LinkedHashMap<Key, Entry> entries;
+	private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+	private int hits;
+	private int misses;
+	private int sizeHits;
+	private int sizeMisses;
+
+	public EncodeCache(final int maxEntries) {
+		entries = new LinkedHashMap<Key, Entry>(maxEntries, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, EncodeCache.Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	private void expunge() {
+		for (Reference<?> key; (key = collected.poll()) != null;)
+			entries.remove(key);
+	}
+
+	// images are told apart by identity, codecs by equality
+	synchronized Entry entry(Object image, ImageCodec<?> codec) {
+		expunge();
+		Key key = new Key(image, codec, collected);
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			entry = new Entry();
+			entries.put(key, entry);
+		}
+		if (entry.payload() != null)
+			++hits;
+		else
+			++misses;
+		return entry;
+	}
+
+	synchronized void countSize(boolean hit) {
+		if (hit)
+			++sizeHits;
+		else
+			++sizeMisses;
+	}
+
+	// for images whose pixels change while the object stays the same, like pooled bitmaps
+	public synchronized void clear() {
+		entries.clear();
+		expunge();
+	}
+
+	synchronized int size() {
+		expunge();
+		return entries.size();
+	}
+
+	public synchronized int hits() {
+		return hits;
+	}
+
+	public synchronized int misses() {
+		return misses;
+	}
+
+	public synchronized int sizeHits() {
+		return sizeHits;
+	}
+
+	public synchronized int sizeMisses() {
+		return sizeMisses;
+	}
+}
@@ -0,0 +1,25 @@
+/*
+Compresses images of some platform type at a given quality
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import java.io.OutputStream;
+
+public interface ImageCodec<IMAGE> {
+
+	// false on failure, the stream may throw to stop the codec early
+	boolean compress(IMAGE image, int quality, OutputStream stream);
+
+	// the only quality tried if the range is not searchable
+	int quality();
+
+	int lowerQuality();
+
+	int higherQuality();
+
+	// whether the size grows with the quality over the range
+	boolean searchable();
+}
@@ -0,0 +1,58 @@
+/*
+Secant search on the logarithm of the encoded size, safeguarded by bisection
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+public class InterpolationSearch implements QualitySearch {
+
+	@Override
+	public int search(Probe probe, int lowerQuality, int higherQuality, int targetSize) {
+		int size = probe.size(lowerQuality);
+		if (size < 0 || size > targetSize)
+			return -1;
+		int lastQuality = lowerQuality;
+		int lastSize = size;
+		size = probe.size(higherQuality);
+		if (size < 0)
+			return -1;
+		if (size <= targetSize)
+			return higherQuality;
+		int prevQuality = higherQuality;
+		int prevSize = size;
+		int slowSteps = 0;
+		while (higherQuality - lowerQuality > 1) {
+			int range = higherQuality - lowerQuality;
+			int testQuality = (lowerQuality + higherQuality + 1) / 2;
+			// sizes at twice the target are clamped by the sink and useless for the secant
+			if (slowSteps < 3 && lastSize != prevSize && lastSize < 2 * targetSize && prevSize < 2 * targetSize) {
+				double slope = Math.log((double) lastSize / prevSize) / (lastQuality - prevQuality);
+				testQuality = (int) Math.floor(lastQuality + Math.log((double) targetSize / lastSize) / slope);
+			}
+			testQuality = Math.max(lowerQuality + 1, Math.min(higherQuality - 1, testQuality));
+			size = probe.size(testQuality);
+			if (size < 0)
+				return -1;
+			if (size > targetSize)
+				higherQuality = testQuality;
+			else
+				lowerQuality = testQuality;
+			prevQuality = lastQuality;
+			prevSize = lastSize;
+			lastQuality = testQuality;
+			lastSize = size;
+			if (2 * (higherQuality - lowerQuality) > range)
+				++slowSteps;
+			else
+				slowSteps = 0;
+		}
+		return lowerQuality;
+	}
+
+	@Override
+	public String name() {
+		return "interpolation";
+	}
+}
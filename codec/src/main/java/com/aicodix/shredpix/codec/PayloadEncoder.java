@@ -0,0 +1,108 @@
+/*
+Finds the best payload for an image and codec
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+public class PayloadEncoder<IMAGE> implements QualitySearch.Probe {
+
+	public interface Cancellation {
+		boolean cancelled();
+	}
+
+	private final int payloadSize;
+	private final PayloadSink sink;
+	private final EncodeCache cache;
+	private final QualitySearch search;
+	private EncodeCache.Entry entry;
+	private IMAGE image;
+	private ImageCodec<IMAGE> codec;
+	private Cancellation cancellation;
+	private int bestSize;
+	private int compressCalls;
+	private long searchNanos;
+
+	public PayloadEncoder(int payloadSize, EncodeCache cache, QualitySearch search) {
+		this.payloadSize = payloadSize;
+		this.cache = cache;
+		this.search = search;
+		sink = new PayloadSink(payloadSize);
+	}
+
+	public byte[] encode(IMAGE image, ImageCodec<IMAGE> codec, Cancellation cancellation) {
+		long begin = System.nanoTime();
+		int probes = sink.probes();
+		entry = cache.entry(image, codec);
+		byte[] payload = entry.payload();
+		if (payload == null) {
+			this.image = image;
+			this.codec = codec;
+			this.cancellation = cancellation;
+			payload = search();
+			if (payload != null)
+				entry.payload(payload);
+			this.image = null;
+			this.codec = null;
+			this.cancellation = null;
+		}
+		entry = null;
+		compressCalls = sink.probes() - probes;
+		searchNanos = System.nanoTime() - begin;
+		return payload;
+	}
+
+	private byte[] search() {
+		sink.reset();
+		bestSize = -1;
+		int quality = codec.quality();
+		if (codec.searchable()) {
+			quality = search.search(this, codec.lowerQuality(), codec.higherQuality(), payloadSize);
+		} else {
+			int size = size(quality);
+			if (size < 0 || size > payloadSize)
+				quality = -1;
+		}
+		if (quality < 0)
+			return null;
+		if (sink.bestQuality() != quality) {
+			if (!sink.probe(image, codec, quality))
+				return null;
+			sink.keep();
+		}
+		return sink.take();
+	}
+
+	@Override
+	public int size(int quality) {
+		if (cancellation.cancelled())
+			return -1;
+		int size = entry.size(quality);
+		cache.countSize(size >= 0);
+		if (size < 0) {
+			if (!sink.probe(image, codec, quality))
+				return -1;
+			size = sink.size();
+			entry.size(quality, size);
+		}
+		if (size <= payloadSize && size > bestSize) {
+			bestSize = size;
+			if (sink.quality() == quality)
+				sink.keep();
+		}
+		return size;
+	}
+
+	public int compressCalls() {
+		return compressCalls;
+	}
+
+	public long searchNanos() {
+		return searchNanos;
+	}
+
+	public String searchName() {
+		return search.name();
+	}
+}
@@ -0,0 +1,122 @@
+/*
+Size capped output stream for compression probes
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+class PayloadSink extends OutputStream {
+
+	private static class Overshoot extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+	private static final Overshoot overshoot = new Overshoot();
+	private final int payloadSize;
+	private final int countLimit;
+	private byte[] best;
+	private byte[] current;
+	private int bestSize;
+	private int currentSize;
+	private int bestQuality = -1;
+	private int currentQuality = -1;
+	private int probes;
+
+	PayloadSink(int payloadSize) {
+		this.payloadSize = payloadSize;
+		countLimit = 2 * payloadSize;
+		best = new byte[payloadSize];
+		current = new byte[payloadSize];
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (currentSize < payloadSize)
+			current[currentSize] = (byte) b;
+		count(1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		int copy = Math.min(len, payloadSize - currentSize);
+		if (copy > 0)
+			System.arraycopy(b, off, current, currentSize, copy);
+		count(len);
+	}
+
+	private void count(int len) throws IOException {
+		currentSize += len;
+		if (currentSize > countLimit) {
+			currentSize = countLimit;
+			throw overshoot;
+		}
+	}
+
+	void reset() {
+		bestSize = 0;
+		bestQuality = -1;
+		currentQuality = -1;
+	}
+
+	<IMAGE> boolean probe(IMAGE image, ImageCodec<IMAGE> codec, int quality) {
+		++probes;
+		currentSize = 0;
+		currentQuality = quality;
+		if (codec.compress(image, quality, this) || currentSize == countLimit)
+			return true;
+		currentQuality = -1;
+		return false;
+	}
+
+	int probes() {
+		return probes;
+	}
+
+	int size() {
+		return currentSize;
+	}
+
+	int bestSize() {
+		return bestSize;
+	}
+
+	int quality() {
+		return currentQuality;
+	}
+
+	int bestQuality() {
+		return bestQuality;
+	}
+
+	boolean overshot() {
+		return currentSize > payloadSize;
+	}
+
+	void keep() {
+		byte[] tmp = best;
+		best = current;
+		current = tmp;
+		bestSize = currentSize;
+		bestQuality = currentQuality;
+		currentQuality = -1;
+	}
+
+	byte[] take() {
+		Arrays.fill(best, bestSize, payloadSize, (byte) 0);
+		byte[] payload = best;
+		best = new byte[payloadSize];
+		bestSize = 0;
+		bestQuality = -1;
+		return payload;
+	}
+}
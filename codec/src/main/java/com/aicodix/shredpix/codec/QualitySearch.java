@@ -0,0 +1,20 @@
+/*
+Strategy for finding the highest quality that still fits
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+public interface QualitySearch {
+
+	interface Probe {
+		// encoded size at given quality or negative on failure
+		int size(int quality);
+	}
+
+	// returns highest quality in range with size not exceeding target or negative if none
+	int search(Probe probe, int lowerQuality, int higherQuality, int targetSize);
+
+	String name();
+}
@@ -0,0 +1,50 @@
+/*
+Target sizes for decoding and for the resolution search
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+public final class Sizing {
+	// in tenths, 0.9f is slightly less than 0.9 and would round 100 pixels down to 89
+	private static final int[] scales = {10, 9, 8, 7, 6, 5};
+	private static final int minLength = 16;
+
+	private Sizing() {
+	}
+
+	// largest power of two subsampling that keeps the longer side at or above maxLength
+	public static int sampleSize(int width, int height, int maxLength) {
+		int sampleSize = 1;
+		while (Math.max(width, height) / (2 * sampleSize) >= maxLength)
+			sampleSize *= 2;
+		return sampleSize;
+	}
+
+	// side of a width x height image after shrinking its longer side to maxLength
+	public static int fit(int side, int width, int height, int maxLength) {
+		int length = Math.max(width, height);
+		if (length <= maxLength)
+			return side;
+		return Math.max(1, (side * maxLength) / length);
+	}
+
+	// width and height pairs, largest first, of the aspect preserving sizes below pixelsMax
+	public static int[] candidates(int width, int height, int pixelsMax) {
+		double bound = Math.min(1, Math.sqrt(pixelsMax / ((double) width * height)));
+		int[] sizes = new int[2 * scales.length];
+		int count = 0;
+		for (int scale : scales) {
+			int w = (int) (width * bound * scale / 10);
+			int h = (int) (height * bound * scale / 10);
+			if (Math.min(w, h) < minLength)
+				break;
+			sizes[count++] = w;
+			sizes[count++] = h;
+		}
+		int[] result = new int[count];
+		System.arraycopy(sizes, 0, result, 0, count);
+		return result;
+	}
+}
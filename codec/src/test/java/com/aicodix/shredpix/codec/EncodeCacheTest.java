@@ -0,0 +1,78 @@
+/*
+Hits, eviction and invalidation of the encode cache
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EncodeCacheTest {
+
+	@Test
+	public void sameImageAndCodecHit() {
+		EncodeCache cache = new EncodeCache(4);
+		Object image = new Object();
+		FakeCodec codec = new FakeCodec();
+		EncodeCache.Entry entry = cache.entry(image, codec);
+		assertEquals(1, cache.misses());
+		entry.payload(new byte[1]);
+		assertSame(entry, cache.entry(image, codec));
+		assertEquals(1, cache.hits());
+	}
+
+	@Test
+	public void imagesAreToldApartByIdentity() {
+		EncodeCache cache = new EncodeCache(4);
+		FakeCodec codec = new FakeCodec();
+		String image = "image";
+		EncodeCache.Entry entry = cache.entry(image, codec);
+		entry.size(10, 123);
+		EncodeCache.Entry other = cache.entry(new String(image), codec);
+		assertNotSame(entry, other);
+		assertEquals(-1, other.size(10));
+		assertNotSame(entry, cache.entry(image, new FakeCodec()));
+	}
+
+	@Test
+	public void evictsTheLeastRecentlyUsed() {
+		EncodeCache cache = new EncodeCache(2);
+		FakeCodec codec = new FakeCodec();
+		Object first = new Object(), second = new Object(), third = new Object();
+		EncodeCache.Entry entry = cache.entry(first, codec);
+		cache.entry(second, codec);
+		assertSame(entry, cache.entry(first, codec));
+		cache.entry(third, codec);
+		assertSame(entry, cache.entry(first, codec));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void clearInvalidatesEverything() {
+		EncodeCache cache = new EncodeCache(4);
+		Object image = new Object();
+		FakeCodec codec = new FakeCodec();
+		EncodeCache.Entry entry = cache.entry(image, codec);
+		entry.payload(new byte[1]);
+		cache.clear();
+		assertEquals(0, cache.size());
+		EncodeCache.Entry fresh = cache.entry(image, codec);
+		assertNotSame(entry, fresh);
+		assertNull(fresh.payload());
+	}
+
+	@Test
+	public void doesNotKeepImagesAlive() throws InterruptedException {
+		EncodeCache cache = new EncodeCache(4);
+		cache.entry(new Object(), new FakeCodec());
+		assertEquals(1, cache.size());
+		for (int i = 0; i < 100 && cache.size() > 0; ++i) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertEquals(0, cache.size());
+	}
+}
@@ -0,0 +1,71 @@
+/*
+Codec whose size grows exponentially with the quality, like the real ones do
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class FakeCodec implements ImageCodec<Object> {
+	private final boolean searchable;
+	private final int quality;
+	int calls;
+
+	FakeCodec() {
+		this(true, 90);
+	}
+
+	FakeCodec(boolean searchable, int quality) {
+		this.searchable = searchable;
+		this.quality = quality;
+	}
+
+	static int size(int quality) {
+		return (int) (200 * Math.exp(quality / 20.0));
+	}
+
+	// the bytes tell the quality and position they were written at
+	static byte data(int quality, int position) {
+		return (byte) (quality + 3 * position);
+	}
+
+	@Override
+	public boolean compress(Object image, int quality, OutputStream stream) {
+		++calls;
+		byte[] chunk = new byte[100];
+		try {
+			for (int position = 0, size = size(quality); position < size; position += chunk.length) {
+				int length = Math.min(chunk.length, size - position);
+				for (int i = 0; i < length; ++i)
+					chunk[i] = data(quality, position + i);
+				stream.write(chunk, 0, length);
+			}
+		} catch (IOException e) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int quality() {
+		return quality;
+	}
+
+	@Override
+	public int lowerQuality() {
+		return 0;
+	}
+
+	@Override
+	public int higherQuality() {
+		return 100;
+	}
+
+	@Override
+	public boolean searchable() {
+		return searchable;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+Capping, overshoot and abort behaviour of the probe sink
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class PayloadSinkTest {
+	private static final int payloadSize = 1000;
+
+	@Test
+	public void keepsWhatFits() {
+		PayloadSink sink = new PayloadSink(payloadSize);
+		FakeCodec codec = new FakeCodec();
+		assertTrue(sink.probe(null, codec, 20));
+		assertEquals(FakeCodec.size(20), sink.size());
+		assertEquals(20, sink.quality());
+		assertFalse(sink.overshot());
+		sink.keep();
+		assertEquals(FakeCodec.size(20), sink.bestSize());
+		assertEquals(20, sink.bestQuality());
+		byte[] payload = sink.take();
+		assertEquals(payloadSize, payload.length);
+		for (int i = 0; i < FakeCodec.size(20); ++i)
+			assertEquals(FakeCodec.data(20, i), payload[i]);
+		for (int i = FakeCodec.size(20); i < payloadSize; ++i)
+			assertEquals(0, payload[i]);
+	}
+
+	@Test
+	public void countsPastThePayload() {
+		PayloadSink sink = new PayloadSink(payloadSize);
+		int quality = 40;
+		assertTrue(FakeCodec.size(quality) > payloadSize && FakeCodec.size(quality) < 2 * payloadSize);
+		assertTrue(sink.probe(null, new FakeCodec(), quality));
+		assertEquals(FakeCodec.size(quality), sink.size());
+		assertTrue(sink.overshot());
+	}
+
+	@Test
+	public void abortsAtTwiceThePayload() {
+		PayloadSink sink = new PayloadSink(payloadSize);
+		FakeCodec codec = new FakeCodec();
+		int quality = 100;
+		assertTrue(FakeCodec.size(quality) > 2 * payloadSize);
+		// the codec gives up on the exception, which still counts as a probe with a size
+		assertTrue(sink.probe(null, codec, quality));
+		assertEquals(2 * payloadSize, sink.size());
+		assertTrue(sink.overshot());
+		assertEquals(1, codec.calls);
+		assertEquals(1, sink.probes());
+	}
+
+	@Test
+	public void throwsOnceOverTheLimit() throws IOException {
+		PayloadSink sink = new PayloadSink(payloadSize);
+		sink.write(new byte[2 * payloadSize], 0, 2 * payloadSize);
+		try {
+			sink.write(0);
+			fail("no overshoot");
+		} catch (IOException e) {
+			assertEquals(2 * payloadSize, sink.size());
+		}
+	}
+
+	@Test
+	public void failedProbeHasNoQuality() {
+		PayloadSink sink = new PayloadSink(payloadSize);
+		ImageCodec<Object> broken = new FakeCodec() {
+			@Override
+			public boolean compress(Object image, int quality, java.io.OutputStream stream) {
+				return false;
+			}
+		};
+		assertFalse(sink.probe(null, broken, 10));
+		assertEquals(-1, sink.quality());
+	}
+
+	@Test
+	public void resetForgetsTheBest() {
+		PayloadSink sink = new PayloadSink(payloadSize);
+		assertTrue(sink.probe(null, new FakeCodec(), 10));
+		sink.keep();
+		sink.reset();
+		assertEquals(0, sink.bestSize());
+		assertEquals(-1, sink.bestQuality());
+	}
+}
@@ -0,0 +1,137 @@
+/*
+Results and probe counts of the quality searches on a monotone size model
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class QualitySearchTest {
+
+	private static class CountingProbe implements QualitySearch.Probe {
+		int calls;
+
+		@Override
+		public int size(int quality) {
+			++calls;
+			return FakeCodec.size(quality);
+		}
+	}
+
+	private static int highestFitting(int target) {
+		int quality = -1;
+		for (int q = 0; q <= 100; ++q)
+			if (FakeCodec.size(q) <= target)
+				quality = q;
+		return quality;
+	}
+
+	private static void findsHighestFitting(QualitySearch search) {
+		for (int target = 100; target <= 40000; target += 37) {
+			CountingProbe probe = new CountingProbe();
+			assertEquals(search.name() + " at " + target, highestFitting(target), search.search(probe, 0, 100, target));
+		}
+	}
+
+	@Test
+	public void bisectionFindsHighestFitting() {
+		findsHighestFitting(new BisectionSearch());
+	}
+
+	@Test
+	public void interpolationFindsHighestFitting() {
+		findsHighestFitting(new InterpolationSearch());
+	}
+
+	@Test
+	public void endsOfTheRangeNeedTwoProbes() {
+		for (QualitySearch search : new QualitySearch[]{new BisectionSearch(), new InterpolationSearch()}) {
+			CountingProbe probe = new CountingProbe();
+			assertEquals(100, search.search(probe, 0, 100, FakeCodec.size(100)));
+			assertEquals(2, probe.calls);
+			probe = new CountingProbe();
+			assertEquals(-1, search.search(probe, 0, 100, FakeCodec.size(0) - 1));
+			assertEquals(1, probe.calls);
+		}
+	}
+
+	@Test
+	public void bisectionTakesLogarithmicProbes() {
+		for (int target = 300; target <= 20000; target += 101) {
+			CountingProbe probe = new CountingProbe();
+			new BisectionSearch().search(probe, 0, 100, target);
+			assertTrue(probe.calls <= 2 + 7);
+		}
+	}
+
+	@Test
+	public void interpolationTakesFewerProbes() {
+		int bisection = 0, interpolation = 0;
+		for (int target = 300; target <= 20000; target += 101) {
+			CountingProbe probe = new CountingProbe();
+			new InterpolationSearch().search(probe, 0, 100, target);
+			interpolation += probe.calls;
+			probe = new CountingProbe();
+			new BisectionSearch().search(probe, 0, 100, target);
+			bisection += probe.calls;
+		}
+		assertTrue(interpolation + " probes against " + bisection, interpolation < bisection);
+	}
+
+	@Test
+	public void failedProbeStopsTheSearch() {
+		for (QualitySearch search : new QualitySearch[]{new BisectionSearch(), new InterpolationSearch()}) {
+			assertEquals(-1, search.search(quality -> quality > 50 ? -1 : FakeCodec.size(quality), 0, 100, 5000));
+		}
+	}
+
+	@Test
+	public void encoderReturnsThePayloadOfTheFoundQuality() {
+		int payloadSize = 5380;
+		int quality = highestFitting(payloadSize);
+		for (QualitySearch search : new QualitySearch[]{new BisectionSearch(), new InterpolationSearch()}) {
+			EncodeCache cache = new EncodeCache(4);
+			PayloadEncoder<Object> encoder = new PayloadEncoder<>(payloadSize, cache, search);
+			FakeCodec codec = new FakeCodec();
+			Object image = new Object();
+			byte[] payload = encoder.encode(image, codec, () -> false);
+			assertNotNull(payload);
+			assertEquals(payloadSize, payload.length);
+			for (int i = 0; i < FakeCodec.size(quality); ++i)
+				assertEquals(FakeCodec.data(quality, i), payload[i]);
+			assertEquals(0, payload[FakeCodec.size(quality)]);
+			// every quality is compressed at most once, the winner is not compressed again
+			CountingProbe probe = new CountingProbe();
+			search.search(probe, 0, 100, payloadSize);
+			assertEquals(probe.calls, codec.calls);
+			assertEquals(codec.calls, encoder.compressCalls());
+			// the same image and codec come from the cache
+			assertArrayEquals(payload, encoder.encode(image, codec, () -> false));
+			assertEquals(0, encoder.compressCalls());
+			assertEquals(1, cache.hits());
+		}
+	}
+
+	@Test
+	public void encoderTriesOnlyTheQualityOfUnsearchableCodecs() {
+		PayloadEncoder<Object> encoder = new PayloadEncoder<>(5380, new EncodeCache(4), new BisectionSearch());
+		FakeCodec fits = new FakeCodec(false, 40);
+		assertNotNull(encoder.encode(new Object(), fits, () -> false));
+		assertEquals(1, fits.calls);
+		FakeCodec tooLarge = new FakeCodec(false, 90);
+		assertNull(encoder.encode(new Object(), tooLarge, () -> false));
+		assertEquals(1, tooLarge.calls);
+	}
+
+	@Test
+	public void encoderStopsWhenCancelled() {
+		PayloadEncoder<Object> encoder = new PayloadEncoder<>(5380, new EncodeCache(4), new InterpolationSearch());
+		FakeCodec codec = new FakeCodec();
+		assertNull(encoder.encode(new Object(), codec, () -> true));
+		assertEquals(0, codec.calls);
+	}
+}
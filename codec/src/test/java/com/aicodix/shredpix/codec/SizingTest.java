@@ -0,0 +1,60 @@
+/*
+Rounding of the decode and candidate sizes
+
+Copyright 2026 Ahmet Inan <inan@aicodix.de>
+*/
+
+package com.aicodix.shredpix.codec;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SizingTest {
+
+	@Test
+	public void sampleSizeKeepsTheLongerSideAtLeastMaxLength() {
+		assertEquals(4, Sizing.sampleSize(4000, 3000, 1000));
+		assertEquals(2, Sizing.sampleSize(3999, 3000, 1000));
+		assertEquals(1, Sizing.sampleSize(1999, 1999, 1000));
+		assertEquals(1, Sizing.sampleSize(500, 500, 1000));
+		assertEquals(8, Sizing.sampleSize(3000, 8000, 1000));
+	}
+
+	@Test
+	public void fitRoundsDown() {
+		assertEquals(750, Sizing.fit(3000, 4000, 3000, 1000));
+		assertEquals(1000, Sizing.fit(4000, 4000, 3000, 1000));
+		assertEquals(213, Sizing.fit(333, 1000, 333, 640));
+		assertEquals(333, Sizing.fit(333, 500, 333, 640));
+	}
+
+	@Test
+	public void fitKeepsAtLeastOnePixel() {
+		assertEquals(1, Sizing.fit(1, 10000, 1, 100));
+	}
+
+	@Test
+	public void candidatesStayBelowTheBudget() {
+		int[] sizes = Sizing.candidates(1000, 1000, 65536);
+		assertArrayEquals(new int[]{256, 256, 230, 230, 204, 204, 179, 179, 153, 153, 128, 128}, sizes);
+		sizes = Sizing.candidates(4000, 3000, 65536);
+		for (int i = 0; i < sizes.length; i += 2) {
+			assertTrue(sizes[i] * sizes[i + 1] <= 65536);
+			assertEquals(4.0 / 3, (double) sizes[i] / sizes[i + 1], 0.02);
+			if (i > 0)
+				assertTrue(sizes[i] < sizes[i - 2]);
+		}
+	}
+
+	@Test
+	public void candidatesNeverUpscale() {
+		assertArrayEquals(new int[]{100, 50, 90, 45, 80, 40, 70, 35, 60, 30, 50, 25}, Sizing.candidates(100, 50, 65536));
+	}
+
+	@Test
+	public void candidatesStopAtTheMinimumSide() {
+		assertArrayEquals(new int[]{40, 20, 36, 18, 32, 16}, Sizing.candidates(40, 20, 65536));
+		assertEquals(0, Sizing.candidates(30, 10, 65536).length);
+	}
+}